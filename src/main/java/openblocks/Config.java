@@ -175,6 +175,14 @@ public class Config {
 	@ConfigProperty(category = "graves", name = "skeletonSpawnRate", comment = "Spawn rate, range: 0..1, default: about 1 per 50s")
 	public static double skeletonSpawnRate = 0.002;
 
+	@OnLineModifiable
+	@ConfigProperty(category = "graves", name = "mobCap", comment = "Graves won't spawn mobs if there is this many monsters within 7 blocks")
+	public static int graveMobCap = 5;
+
+	@OnLineModifiable
+	@ConfigProperty(category = "graves", name = "playerRange", comment = "Graves spawn mobs only when player is within this distance")
+	public static int gravePlayerRange = 32;
+
 	@OnLineModifiable
 	@ConfigProperty(category = "graves", name = "specialActionFrequency", comment = "Frequency of special action on grave digging, 0..1")
 	public static double graveSpecialAction = 0.03;
@@ -187,6 +195,18 @@ public class Config {
 	@ConfigProperty(category = "graves", name = "voidFix", comment = "Should grave try to spawn when player died by falling into void? (false -> legacy behaviour)")
 	public static boolean voidGraves = true;
 
+	@OnLineModifiable
+	@ConfigProperty(category = "hangglider", name = "thermalStrength", comment = "Upward acceleration of glider flying over hot blocks (lava, fire), 0 to disable")
+	public static double gliderThermalStrength = 0.06;
+
+	@OnLineModifiable
+	@ConfigProperty(category = "hangglider", name = "thermalRange", comment = "How high above hot blocks thermals can be felt (max 64)")
+	public static int gliderThermalRange = 24;
+
+	@OnLineModifiable
+	@ConfigProperty(category = "hangglider", name = "liftZones", comment = "Areas with constant upward wind. Entries are in form <dimension>:<x>:<z>:<radius>:<strength>")
+	public static String[] gliderLiftZones = new String[0];
+
 	@ConfigProperty(category = "features", name = "explosiveEnchantmentId", comment = "Id of explosive enchantment")
 	public static int explosiveEnchantmentId = 211;
 
@@ -273,6 +293,14 @@ public class Config {
 	@ConfigProperty(category = "features", name = "xpToLiquidRatio", comment = "Storage in mB needed to store single XP point")
 	public static int xpToLiquidRatio = 20;
 
+	@OnLineModifiable
+	@ConfigProperty(category = "features", name = "blockOperationsPerTick", comment = "Maximum number of block breaker and placer actions done in single world tick (rest is delayed to next ticks)")
+	public static int blockOperationsPerTick = 256;
+
+	@OnLineModifiable
+	@ConfigProperty(category = "features", name = "ropeLadderBlocksPerTick", comment = "Maximum number of rope ladder blocks placed or removed in single world tick")
+	public static int ropeLadderBlocksPerTick = 32;
+
 	@OnLineModifiable
 	@ConfigProperty(category = "guide", name = "redstoneSensitivity", comment = "How builder guide should react to redstone. 0 - not sensitive, 1 - powered == on, -1 - inverted")
 	public static int guideRedstone = 1;
@@ -282,8 +310,16 @@ public class Config {
 	public static double guideRenderRangeSq = 256 * 256;
 
 	@OnLineModifiable
-	@ConfigProperty(category = "scaffolding", name = "despawnRate", comment = "The rate at which scaffolding should break. 0 - fastest")
-	public static int scaffoldingDespawnRate = 4;
+	@ConfigProperty(category = "scaffolding", name = "lifetime", comment = "Number of ticks after which placed scaffolding breaks")
+	public static int scaffoldingLifetime = 20 * 60 * 4;
+
+	@OnLineModifiable
+	@ConfigProperty(category = "scaffolding", name = "decayStructure", comment = "When one scaffolding block breaks, whole connected structure goes with it")
+	public static boolean scaffoldingDecayStructure = false;
+
+	@OnLineModifiable
+	@ConfigProperty(category = "scaffolding", name = "blocksPerTick", comment = "Maximum number of scaffolding blocks broken in single world tick (rest is delayed to next ticks)")
+	public static int scaffoldingBlocksPerTick = 64;
 
 	@OnLineModifiable
 	@ConfigProperty(category = "egg", name = "pickBlocks", comment = "Can golden egg pick blocks while hatching (may lead to glitches)")
@@ -297,6 +333,14 @@ public class Config {
 	@ConfigProperty(category = "magnet", name = "pickBlocks", comment = "Can crane magnet pick block?")
 	public static boolean canMagnetPickBlocks = true;
 
+	@OnLineModifiable
+	@ConfigProperty(category = "magnet", name = "pickRadius", comment = "Radius of area picked by crane magnet at once (0 - single block). Bigger areas are carried as one block swarm")
+	public static int magnetPickRadius = 0;
+
+	@OnLineModifiable
+	@ConfigProperty(category = "slimalyzer", name = "overlayRange", comment = "Radius (in chunks) of slime chunk overlay shown after using slimalyzer")
+	public static int slimalyzerOverlayRange = 8;
+
 	public static void register() {
 		@SuppressWarnings("unchecked")
 		final List<IRecipe> recipeList = CraftingManager.getInstance().getRecipeList();
@@ -6,6 +6,8 @@ import net.minecraft.block.Block;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.enchantment.Enchantment;
 import net.minecraft.entity.EntityList;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.stats.Achievement;
@@ -20,12 +22,14 @@ import net.minecraftforge.oredict.OreDictionary;
 import openblocks.common.*;
 import openblocks.common.block.*;
 import openblocks.common.entity.*;
+import openblocks.common.entity.ai.NearbyItemTracker;
 import openblocks.common.item.*;
 import openblocks.common.item.ItemImaginationGlasses.ItemCrayonGlasses;
 import openblocks.common.tileentity.*;
 import openblocks.enchantments.flimflams.*;
 import openblocks.events.ElevatorActionEvent;
 import openblocks.events.PlayerActionEvent;
+import openblocks.events.SlimeChunksEvent;
 import openblocks.integration.ModuleAdapters;
 import openblocks.integration.ModuleTurtles;
 import openblocks.rpc.*;
@@ -75,6 +79,7 @@ public class OpenBlocks {
 	private static final int ENTITY_MAGNET_PLAYER_ID = 708;
 	private static final int ENTITY_XP_ID = 709;
 	private static final int ENTITY_MINIME_ID = 710;
+	private static final int ENTITY_BLOCK_SWARM_ID = 711;
 
 	@Instance(MODID)
 	public static OpenBlocks instance;
@@ -389,7 +394,9 @@ public class OpenBlocks {
 				.register(MapDataManager.MapUpdatesEvent.class)
 				.register(ElevatorActionEvent.class)
 				.register(PlayerActionEvent.class)
-				.register(EntityMiniMe.OwnerChangeEvent.class);
+				.register(SlimeChunksEvent.class)
+				.register(EntityMiniMe.OwnerChangeEvent.class)
+				.register(CraneRegistry.CraneStateEvent.class);
 
 		RpcCallDispatcher.INSTANCE.startRegistration()
 				.registerInterface(IRotatable.class)
@@ -411,16 +418,23 @@ public class OpenBlocks {
 			MinecraftForge.EVENT_BUS.register(new GuiOpenHandler());
 		}
 
+		if (OpenBlocks.Items.craneBackpack != null) {
+			MinecraftForge.EVENT_BUS.register(CraneRegistry.instance);
+		}
+
 		EntityRegistry.registerModEntity(EntityLuggage.class, "Luggage", ENTITY_LUGGAGE_ID, OpenBlocks.instance, 64, 1, true);
 		EntityRegistry.registerModEntity(EntityXPOrbNoFly.class, "XPOrbNoFly", ENTITY_XP_ID, OpenBlocks.instance, 64, 1, true);
-		EntityRegistry.registerModEntity(EntityHangGlider.class, "Hang Glider", ENTITY_HANGGLIDER_ID, OpenBlocks.instance, 64, 1, true);
+		// clients attach glider to player, so server position is only needed for tracking
+		EntityRegistry.registerModEntity(EntityHangGlider.class, "Hang Glider", ENTITY_HANGGLIDER_ID, OpenBlocks.instance, 64, 20, false);
 		EntityRegistry.registerModEntity(EntityMagnet.class, "Magnet", ENTITY_MAGNET_ID, OpenBlocks.instance, 64, 1, true);
 		EntityRegistry.registerModEntity(EntityMountedBlock.class, "MountedBlock", ENTITY_BLOCK_ID, OpenBlocks.instance, 64, 1, true);
-		EntityRegistry.registerModEntity(EntityMagnet.PlayerBound.class, "Player-Magnet", ENTITY_MAGNET_PLAYER_ID, OpenBlocks.instance, 64, 1, true);
+		// clients move player magnets from crane state, so server position is only needed for tracking
+		EntityRegistry.registerModEntity(EntityMagnet.PlayerBound.class, "Player-Magnet", ENTITY_MAGNET_PLAYER_ID, OpenBlocks.instance, 64, 20, false);
 		EntityRegistry.registerModEntity(EntityCartographer.class, "Cartographer", ENTITY_CARTOGRAPHER_ID, OpenBlocks.instance, 64, 8, true);
 		EntityRegistry.registerModEntity(EntityItemProjectile.class, "EntityItemProjectile", ENTITY_CANON_ITEM_ID, OpenBlocks.instance, 64, 1, true);
 		EntityRegistry.registerModEntity(EntityGoldenEye.class, "GoldenEye", ENTITY_GOLDEN_EYE_ID, OpenBlocks.instance, 64, 8, true);
 		EntityRegistry.registerModEntity(EntityMiniMe.class, "MiniMe", ENTITY_MINIME_ID, OpenBlocks.instance, 64, 1, true);
+		EntityRegistry.registerModEntity(EntityBlockSwarm.class, "BlockSwarm", ENTITY_BLOCK_SWARM_ID, OpenBlocks.instance, 64, 5, true);
 
 		MagnetWhitelists.instance.initTesters();
 
@@ -447,21 +461,82 @@ public class OpenBlocks {
 			FMLInterModComms.sendMessage(Mods.MFR, "registerAutoSpawnerBlacklist", luggageName);
 		}
 
+		if (Items.slimalyzer != null) {
+			MinecraftForge.EVENT_BUS.register(SlimeChunkCache.instance);
+		}
+
+		if (Items.goldenEye != null) {
+			MinecraftForge.EVENT_BUS.register(new StructureLocationIndex.WorldListener());
+		}
+
 		if (Items.luggage != null) {
-			MinecraftForge.EVENT_BUS.register(new LuggageDropHandler());
+			final LuggageDropHandler luggageDropHandler = new LuggageDropHandler();
+			MinecraftForge.EVENT_BUS.register(luggageDropHandler);
+			EntityJoinDispatcher.instance.register(EntityItem.class, luggageDropHandler);
+			EntityJoinDispatcher.instance.register(EntityItem.class, NearbyItemTracker.instance);
+			MinecraftForge.EVENT_BUS.register(NearbyItemTracker.instance);
+			FMLCommonHandler.instance().bus().register(NearbyItemTracker.instance);
 		}
 
 		if (Blocks.elevator != null) {
 			MinecraftForge.EVENT_BUS.register(new ElevatorActionHandler());
 		}
 
+		if (Blocks.target != null) {
+			MinecraftForge.EVENT_BUS.register(TargetProjectileTracker.instance);
+			FMLCommonHandler.instance().bus().register(TargetProjectileTracker.instance);
+			for (Class<?> cls : TileEntityTarget.EXTRA_PROJECTILE_CLASSES)
+				EntityJoinDispatcher.instance.register(cls, TargetProjectileTracker.instance);
+		}
+
+		if (Blocks.bearTrap != null) {
+			MinecraftForge.EVENT_BUS.register(EntityUuidIndex.instance);
+		}
+
+		if (Blocks.blockBreaker != null || Blocks.blockPlacer != null) {
+			FMLCommonHandler.instance().bus().register(BlockOperationQueue.instance);
+			MinecraftForge.EVENT_BUS.register(BlockOperationQueue.instance);
+		}
+
+		if (Blocks.ropeLadder != null) {
+			FMLCommonHandler.instance().bus().register(RopeLadderColumns.instance);
+			MinecraftForge.EVENT_BUS.register(RopeLadderColumns.instance);
+		}
+
+		if (Blocks.heal != null) {
+			FMLCommonHandler.instance().bus().register(HealAuraManager.instance);
+			MinecraftForge.EVENT_BUS.register(HealAuraManager.instance);
+		}
+
+		if (Blocks.scaffolding != null) {
+			FMLCommonHandler.instance().bus().register(ScaffoldingDecayManager.instance);
+			MinecraftForge.EVENT_BUS.register(ScaffoldingDecayManager.instance);
+		}
+
+		if (Blocks.cannon != null) {
+			MinecraftForge.EVENT_BUS.register(ProjectileLandingMerger.instance);
+			FMLCommonHandler.instance().bus().register(ProjectileLandingMerger.instance);
+		}
+
+		if (Blocks.grave != null) {
+			MinecraftForge.EVENT_BUS.register(GraveSpawnScheduler.instance);
+			FMLCommonHandler.instance().bus().register(GraveSpawnScheduler.instance);
+		}
+
+		MinecraftForge.EVENT_BUS.register(ActiveTileTicker.instance);
+		FMLCommonHandler.instance().bus().register(ActiveTileTicker.instance);
+
+		MinecraftForge.EVENT_BUS.register(TileUpdateScheduler.instance);
+		FMLCommonHandler.instance().bus().register(TileUpdateScheduler.instance);
+
 		if (Blocks.tank != null) {
 			BucketFillHandler.instance.addToWhitelist(TileEntityTank.class);
 		}
 
 		MinecraftForge.EVENT_BUS.register(PlayerInventoryStore.instance);
 
-		MinecraftForge.EVENT_BUS.register(new EntityEventHandler());
+		MinecraftForge.EVENT_BUS.register(EntityJoinDispatcher.instance);
+		EntityJoinDispatcher.instance.register(EntityPlayer.class, new EntityEventHandler());
 
 		MinecraftForge.EVENT_BUS.register(new GameRuleManager());
 
@@ -65,6 +65,14 @@ public class FlimFlamDescriptionSimple implements IFlimFlamDescription {
 		return isSilent;
 	}
 
+	public int lowerLuck() {
+		return lowerLuck;
+	}
+
+	public int upperLuck() {
+		return upperLuck;
+	}
+
 	@Override
 	public IFlimFlamAction action() {
 		return effect;
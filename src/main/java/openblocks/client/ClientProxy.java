@@ -17,10 +17,12 @@ import openblocks.OpenBlocks;
 import openblocks.client.bindings.KeyInputHandler;
 import openblocks.client.fx.FXLiquidSpray;
 import openblocks.client.model.ModelCraneBackpack;
+import openblocks.client.renderer.ImaginaryBlocksRenderer;
 import openblocks.client.renderer.block.*;
 import openblocks.client.renderer.entity.*;
 import openblocks.client.renderer.item.*;
 import openblocks.client.renderer.tileentity.*;
+import openblocks.common.CraneRegistry;
 import openblocks.common.entity.*;
 import openblocks.common.tileentity.*;
 import openmods.entity.EntityBlock;
@@ -68,6 +70,7 @@ public class ClientProxy implements IOpenBlocksProxy {
 		FMLCommonHandler.instance().bus().register(new ClientTickHandler());
 		MinecraftForge.EVENT_BUS.register(this);
 		MinecraftForge.EVENT_BUS.register(new EntityMiniMe.OwnerChangeHandler());
+		MinecraftForge.EVENT_BUS.register(new CraneRegistry.CraneStateHandler());
 	}
 
 	@Override
@@ -115,7 +118,6 @@ public class ClientProxy implements IOpenBlocksProxy {
 		ClientRegistry.bindTileEntitySpecialRenderer(TileEntitySprinkler.class, new TileEntitySprinklerRenderer());
 		ClientRegistry.bindTileEntitySpecialRenderer(TileEntityCannon.class, new TileEntityCannonRenderer());
 		ClientRegistry.bindTileEntitySpecialRenderer(TileEntityVacuumHopper.class, new TileEntityVacuumHopperRenderer());
-		ClientRegistry.bindTileEntitySpecialRenderer(TileEntityImaginary.class, new TileEntityImaginaryRenderer());
 		ClientRegistry.bindTileEntitySpecialRenderer(TileEntityFan.class, new TileEntityFanRenderer());
 		ClientRegistry.bindTileEntitySpecialRenderer(TileEntityVillageHighlighter.class, new TileEntityVillageHighlighterRenderer());
 		ClientRegistry.bindTileEntitySpecialRenderer(TileEntityAutoAnvil.class, new TileEntityAutoAnvilRenderer());
@@ -148,6 +150,10 @@ public class ClientProxy implements IOpenBlocksProxy {
 			MinecraftForge.EVENT_BUS.register(SoundEventsManager.instance);
 		}
 
+		if (OpenBlocks.Items.slimalyzer != null) {
+			MinecraftForge.EVENT_BUS.register(new SlimeChunkOverlayRenderer());
+		}
+
 		if (OpenBlocks.Items.craneBackpack != null) {
 			ModelCraneBackpack.instance.init();
 			RenderingRegistry.registerEntityRenderingHandler(EntityMagnet.class, new EntityMagnetRenderer());
@@ -158,6 +164,14 @@ public class ClientProxy implements IOpenBlocksProxy {
 			RenderingRegistry.registerEntityRenderingHandler(EntityMiniMe.class, new EntityMiniMeRenderer());
 		}
 
+		if (OpenBlocks.Blocks.goldenEgg != null || OpenBlocks.Items.craneBackpack != null) {
+			RenderingRegistry.registerEntityRenderingHandler(EntityBlockSwarm.class, new EntityBlockSwarmRenderer());
+		}
+
+		if (OpenBlocks.Blocks.imaginary != null) {
+			MinecraftForge.EVENT_BUS.register(ImaginaryBlocksRenderer.instance);
+		}
+
 		if (OpenBlocks.Items.devNull != null) {
 			MinecraftForgeClient.registerItemRenderer(OpenBlocks.Items.devNull, new ItemRendererDevNull());
 		}
@@ -0,0 +1,77 @@
+package openblocks.client;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.entity.Entity;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
+import openblocks.events.SlimeChunksEvent;
+
+import org.lwjgl.opengl.GL11;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+public class SlimeChunkOverlayRenderer {
+
+	private static final int DISPLAY_TICKS = 20 * 10;
+
+	private SlimeChunksEvent chunks;
+
+	private long expireTime;
+
+	private int dimension;
+
+	@SubscribeEvent
+	public void onSlimeChunks(SlimeChunksEvent evt) {
+		final Entity player = evt.sender;
+		chunks = evt;
+		dimension = player.worldObj.provider.dimensionId;
+		expireTime = player.worldObj.getTotalWorldTime() + DISPLAY_TICKS;
+	}
+
+	@SubscribeEvent
+	public void renderOverlay(RenderWorldLastEvent evt) {
+		final SlimeChunksEvent chunks = this.chunks;
+		if (chunks == null) return;
+
+		final Entity rve = Minecraft.getMinecraft().renderViewEntity;
+		if (rve == null) return;
+
+		if (rve.worldObj.provider.dimensionId != dimension || rve.worldObj.getTotalWorldTime() > expireTime) {
+			this.chunks = null;
+			return;
+		}
+
+		final double interpX = rve.prevPosX + (rve.posX - rve.prevPosX) * evt.partialTicks;
+		final double interpY = rve.prevPosY + (rve.posY - rve.prevPosY) * evt.partialTicks;
+		final double interpZ = rve.prevPosZ + (rve.posZ - rve.prevPosZ) * evt.partialTicks;
+
+		final double y = Math.floor(rve.posY) + 0.05 - interpY;
+
+		GL11.glDisable(GL11.GL_LIGHTING);
+		GL11.glDisable(GL11.GL_TEXTURE_2D);
+		GL11.glEnable(GL11.GL_BLEND);
+		GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+		GL11.glDepthMask(false);
+
+		final Tessellator tes = Tessellator.instance;
+		tes.startDrawingQuads();
+		tes.setColorRGBA(80, 220, 80, 64);
+		for (int i = 0; i < chunks.chunkCount(); i++) {
+			final double minX = (chunks.chunkX(i) << 4) - interpX;
+			final double minZ = (chunks.chunkZ(i) << 4) - interpZ;
+			final double maxX = minX + 16;
+			final double maxZ = minZ + 16;
+
+			tes.addVertex(minX, y, minZ);
+			tes.addVertex(minX, y, maxZ);
+			tes.addVertex(maxX, y, maxZ);
+			tes.addVertex(maxX, y, minZ);
+		}
+		tes.draw();
+
+		GL11.glDepthMask(true);
+		GL11.glDisable(GL11.GL_BLEND);
+		GL11.glEnable(GL11.GL_TEXTURE_2D);
+		GL11.glEnable(GL11.GL_LIGHTING);
+	}
+}
@@ -0,0 +1,146 @@
+package openblocks.client;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import net.minecraft.util.ResourceLocation;
+import openblocks.client.Icons.IDrawableIcon;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Fixed size ring of sound events, stored in primitive arrays.
+ * Single writer (sound handler), any number of readers. Slots are guarded by per-slot sequence numbers (odd while written), so readers never block writer and just skip slots that changed under them.
+ * Repeated sounds close to still visible event are merged into it instead of taking new slot.
+ */
+class SoundEventBuffer {
+
+	public static class Entry {
+		public float x, y, z;
+		public IDrawableIcon icon;
+		public double size;
+		public double alpha;
+	}
+
+	private static final int AGGREGATION_WINDOW = 20;
+
+	private static final float AGGREGATION_DISTANCE_SQ = 2 * 2;
+
+	private static final int MAX_AGGREGATED = 8;
+
+	private final int capacity;
+
+	private final AtomicIntegerArray sequence;
+
+	private final float[] posX;
+	private final float[] posY;
+	private final float[] posZ;
+	private final double[] size;
+	private final int[] count;
+	private final long[] spawnTick;
+	private final int[] ttlTicks;
+	private final IDrawableIcon[] icons;
+	private final ResourceLocation[] sounds;
+
+	// writer only
+	private int head;
+
+	// writer only
+	private final Map<ResourceLocation, Integer> lastSlotForSound = Maps.newHashMap();
+
+	public SoundEventBuffer(int capacity) {
+		this.capacity = capacity;
+		this.sequence = new AtomicIntegerArray(capacity);
+		this.posX = new float[capacity];
+		this.posY = new float[capacity];
+		this.posZ = new float[capacity];
+		this.size = new double[capacity];
+		this.count = new int[capacity];
+		this.spawnTick = new long[capacity];
+		this.ttlTicks = new int[capacity];
+		this.icons = new IDrawableIcon[capacity];
+		this.sounds = new ResourceLocation[capacity];
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	private boolean isAlive(int slot, long now) {
+		return icons[slot] != null && now - spawnTick[slot] < ttlTicks[slot];
+	}
+
+	private boolean tryAggregate(int slot, long now, float x, float y, float z, ResourceLocation sound) {
+		if (sounds[slot] != sound && (sounds[slot] == null || !sounds[slot].equals(sound))) return false;
+		if (now - spawnTick[slot] > AGGREGATION_WINDOW || !isAlive(slot, now)) return false;
+
+		final float dx = posX[slot] - x;
+		final float dy = posY[slot] - y;
+		final float dz = posZ[slot] - z;
+		return dx * dx + dy * dy + dz * dz <= AGGREGATION_DISTANCE_SQ;
+	}
+
+	public void add(long now, float x, float y, float z, ResourceLocation sound, IDrawableIcon icon, double eventSize, int ttl) {
+		final Integer previous = lastSlotForSound.get(sound);
+		if (previous != null) {
+			final int slot = previous;
+			if (tryAggregate(slot, now, x, y, z, sound)) {
+				final int seq = sequence.get(slot);
+				sequence.set(slot, seq + 1);
+				spawnTick[slot] = now;
+				ttlTicks[slot] = Math.max(ttlTicks[slot], ttl);
+				size[slot] = Math.max(size[slot], eventSize);
+				if (count[slot] < MAX_AGGREGATED) count[slot]++;
+				sequence.set(slot, seq + 2);
+				return;
+			}
+		}
+
+		final int slot = head;
+		head = (head + 1) % capacity;
+
+		final ResourceLocation evicted = sounds[slot];
+		if (evicted != null) {
+			final Integer evictedSlot = lastSlotForSound.get(evicted);
+			if (evictedSlot != null && evictedSlot == slot) lastSlotForSound.remove(evicted);
+		}
+
+		final int seq = sequence.get(slot);
+		sequence.set(slot, seq + 1);
+		posX[slot] = x;
+		posY[slot] = y;
+		posZ[slot] = z;
+		size[slot] = eventSize;
+		count[slot] = 1;
+		spawnTick[slot] = now;
+		ttlTicks[slot] = ttl;
+		icons[slot] = icon;
+		sounds[slot] = sound;
+		sequence.set(slot, seq + 2);
+
+		lastSlotForSound.put(sound, slot);
+	}
+
+	/**
+	 * @return false if slot is empty, expired or was modified during read
+	 */
+	public boolean read(int slot, long now, float partialTicks, Entry result) {
+		final int before = sequence.get(slot);
+		if ((before & 1) != 0) return false;
+
+		final IDrawableIcon icon = icons[slot];
+		final double age = now - spawnTick[slot] + partialTicks;
+		final int ttl = ttlTicks[slot];
+		result.x = posX[slot];
+		result.y = posY[slot];
+		result.z = posZ[slot];
+		result.size = size[slot] * (1 + 0.125 * (count[slot] - 1));
+
+		if (sequence.get(slot) != before) return false;
+		if (icon == null || ttl <= 0 || age >= ttl) return false;
+
+		result.icon = icon;
+		result.alpha = 1 - age / ttl;
+		return true;
+	}
+}
@@ -1,8 +1,5 @@
 package openblocks.client;
 
-import java.util.Iterator;
-import java.util.List;
-
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.audio.ISound;
 import net.minecraft.client.renderer.texture.TextureManager;
@@ -23,8 +20,6 @@ import openmods.utils.render.RenderUtils;
 
 import org.lwjgl.opengl.GL11;
 
-import com.google.common.collect.Lists;
-
 import cpw.mods.fml.client.FMLClientHandler;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
@@ -40,39 +35,13 @@ public class SoundEventsManager {
 	public static final SoundEventsManager instance = new SoundEventsManager();
 	public final SoundIconRegistry icons = new SoundIconRegistry();
 
-	private static class SoundEvent {
-		public final float x, y, z;
-		public final IDrawableIcon icon;
-		public final double size;
-
-		private double time;
-		private final double timeDeltaPerTick;
+	private static final int BUFFER_CAPACITY = 256;
 
-		private SoundEvent(float x, float y, float z, IDrawableIcon icon, double size, double TTL) {
-			this.x = x;
-			this.y = y;
-			this.z = z;
-			this.icon = icon;
-			this.size = size;
-
-			time = 1;
-			timeDeltaPerTick = 1 / (TTL * 20);
-		}
-
-		public void update() {
-			time -= timeDeltaPerTick;
-		}
-
-		public boolean isAlive() {
-			return time >= 0;
-		}
+	private static final double MAX_RENDER_DISTANCE_SQ = 64 * 64;
 
-		public double getTime(double partialTick) {
-			return time - timeDeltaPerTick * partialTick;
-		}
-	}
+	private final SoundEventBuffer events = new SoundEventBuffer(BUFFER_CAPACITY);
 
-	private final List<SoundEvent> events = Lists.newLinkedList();
+	private final SoundEventBuffer.Entry renderEntry = new SoundEventBuffer.Entry();
 
 	public static boolean isEntityWearingGlasses(Entity e) {
 		if (e instanceof EntityPlayer) {
@@ -91,10 +60,7 @@ public class SoundEventsManager {
 
 	private void addEvent(float x, float y, float z, ResourceLocation sound, double size, double time) {
 		IDrawableIcon icon = icons.getIcon(sound);
-
-		synchronized (events) {
-			events.add(new SoundEvent(x, y, z, icon, size, time));
-		}
+		events.add(ClientTickHandler.getTicks(), x, y, z, sound, icon, size, (int)(time * 20));
 	}
 
 	@SubscribeEvent
@@ -110,17 +76,6 @@ public class SoundEventsManager {
 		if (evt.category.equals("glasses")) notPumpkinOverlay.invalidate();
 	}
 
-	public void tickUpdate() {
-		synchronized (events) {
-			Iterator<SoundEvent> it = events.iterator();
-			while (it.hasNext()) {
-				SoundEvent evt = it.next();
-				evt.update();
-				if (!evt.isAlive()) it.remove();
-			}
-		}
-	}
-
 	private ManualDisplayList notPumpkinOverlay = new ManualDisplayList();
 	private static final ResourceLocation notPumpkin = new ResourceLocation("openblocks:textures/misc/glasses_obsidian.png");
 
@@ -218,21 +173,34 @@ public class SoundEventsManager {
 		final double interpY = rve.prevPosY + (rve.posY - rve.prevPosY) * evt.partialTicks;
 		final double interpZ = rve.prevPosZ + (rve.posZ - rve.prevPosZ) * evt.partialTicks;
 
+		final double yaw = Math.toRadians(rve.rotationYaw);
+		final double pitch = Math.toRadians(rve.rotationPitch);
+		final double lookX = -Math.sin(yaw) * Math.cos(pitch);
+		final double lookY = -Math.sin(pitch);
+		final double lookZ = Math.cos(yaw) * Math.cos(pitch);
+
+		final long now = ClientTickHandler.getTicks();
+		final SoundEventBuffer.Entry snd = renderEntry;
+
 		GL11.glDisable(GL11.GL_LIGHTING);
 		GL11.glEnable(GL11.GL_BLEND);
 		GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-		synchronized (events) {
-			for (SoundEvent snd : events) {
-				final double px = snd.x - interpX;
-				final double py = snd.y - interpY;
-				final double pz = snd.z - interpZ;
-
-				GL11.glPushMatrix();
-				GL11.glTranslated(px, py, pz);
-				RenderUtils.setupBillboard(rve);
-				snd.icon.draw(tex, snd.getTime(evt.partialTicks), snd.size);
-				GL11.glPopMatrix();
-			}
+		for (int i = 0; i < events.capacity(); i++) {
+			if (!events.read(i, now, evt.partialTicks, snd)) continue;
+
+			final double px = snd.x - interpX;
+			final double py = snd.y - interpY;
+			final double pz = snd.z - interpZ;
+
+			if (px * px + py * py + pz * pz > MAX_RENDER_DISTANCE_SQ) continue;
+			// behind camera (with some margin for icon size)
+			if (px * lookX + py * lookY + pz * lookZ < -snd.size) continue;
+
+			GL11.glPushMatrix();
+			GL11.glTranslated(px, py, pz);
+			RenderUtils.setupBillboard(rve);
+			snd.icon.draw(tex, snd.alpha, snd.size);
+			GL11.glPopMatrix();
 		}
 		GL11.glEnable(GL11.GL_LIGHTING);
 		GL11.glDisable(GL11.GL_BLEND);
@@ -1,9 +1,11 @@
 package openblocks.client.gui;
 
 import java.util.List;
+import java.util.Map;
 
 import net.minecraft.util.StatCollector;
 import openblocks.common.container.ContainerPaintMixer;
+import openblocks.common.sync.SyncableInkLevels;
 import openblocks.common.tileentity.TileEntityPaintMixer;
 import openblocks.common.tileentity.TileEntityPaintMixer.DyeSlot;
 import openblocks.rpc.IColorChanger;
@@ -20,6 +22,7 @@ import openmods.utils.ColorUtils.ColorMeta;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 public class GuiPaintMixer extends SyncedGuiContainer<ContainerPaintMixer> {
 
@@ -41,27 +44,28 @@ public class GuiPaintMixer extends SyncedGuiContainer<ContainerPaintMixer> {
 		root.addComponent(new GuiComponentRect(141, 94, 20, 20, KEY));
 
 		{
-			final GuiComponentLevel level = new GuiComponentLevel(118, 74 + 6, 2, 14, CYAN, 0xFF888888, 0f, 2f, 0);
-			addSyncUpdateListener(ValueCopyAction.create(mixer.getDyeSlot(DyeSlot.cyan), level));
-			root.addComponent(level);
-		}
+			final Map<DyeSlot, GuiComponentLevel> levels = Maps.newEnumMap(DyeSlot.class);
+			levels.put(DyeSlot.cyan, new GuiComponentLevel(118, 74 + 6, 2, 14, CYAN, 0xFF888888, 0f, 2f, 0));
+			levels.put(DyeSlot.magenta, new GuiComponentLevel(141 + 21, 74 + 6, 2, 14, MAGENTA, 0xFF888888, 0f, 2f, 0));
+			levels.put(DyeSlot.yellow, new GuiComponentLevel(118, 94 + 6, 2, 14, YELLOW, 0xFF888888, 0f, 2f, 0));
+			levels.put(DyeSlot.black, new GuiComponentLevel(141 + 21, 94 + 6, 2, 14, KEY, 0xFF888888, 0f, 2f, 0));
 
-		{
-			final GuiComponentLevel level = new GuiComponentLevel(141 + 21, 74 + 6, 2, 14, MAGENTA, 0xFF888888, 0f, 2f, 0);
-			addSyncUpdateListener(ValueCopyAction.create(mixer.getDyeSlot(DyeSlot.magenta), level));
-			root.addComponent(level);
-		}
+			for (GuiComponentLevel level : levels.values())
+				root.addComponent(level);
 
-		{
-			final GuiComponentLevel level = new GuiComponentLevel(118, 94 + 6, 2, 14, YELLOW, 0xFF888888, 0f, 2f, 0);
-			addSyncUpdateListener(ValueCopyAction.create(mixer.getDyeSlot(DyeSlot.yellow), level));
-			root.addComponent(level);
-		}
+			final SyncableInkLevels inkLevels = mixer.getInkLevels();
+			addSyncUpdateListener(new IValueUpdateAction() {
+				@Override
+				public Iterable<?> getTriggers() {
+					return ImmutableList.of(inkLevels);
+				}
 
-		{
-			final GuiComponentLevel level = new GuiComponentLevel(141 + 21, 94 + 6, 2, 14, KEY, 0xFF888888, 0f, 2f, 0);
-			addSyncUpdateListener(ValueCopyAction.create(mixer.getDyeSlot(DyeSlot.black), level));
-			root.addComponent(level);
+				@Override
+				public void execute() {
+					for (Map.Entry<DyeSlot, GuiComponentLevel> e : levels.entrySet())
+						e.getValue().setValue(inkLevels.get(e.getKey()));
+				}
+			});
 		}
 
 		{
@@ -0,0 +1,387 @@
+package openblocks.client.renderer;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.culling.Frustrum;
+import net.minecraft.client.renderer.texture.TextureMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.IIcon;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
+import net.minecraftforge.client.event.TextureStitchEvent;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.event.world.WorldEvent;
+import openblocks.Config;
+import openblocks.OpenBlocks.Blocks;
+import openblocks.common.ImaginationContext;
+import openblocks.common.WorldListenerAdapter;
+import openblocks.common.tileentity.TileEntityImaginary;
+import openblocks.common.tileentity.TileEntityImaginary.ICollisionData;
+import openblocks.common.tileentity.TileEntityImaginary.PanelData;
+import openblocks.common.tileentity.TileEntityImaginary.Property;
+import openblocks.common.tileentity.TileEntityImaginary.StairsData;
+import openmods.renderer.DisplayListWrapper;
+
+import org.lwjgl.opengl.GL11;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Imaginary blocks are baked into display lists per chunk section, one list for every color and pencil/crayon combination.
+ * Lists are rebuilt only when blocks in section change. Glasses only decide which groups are drawn, so changing them needs no rebuild.
+ * Light of every block is baked too, so sections are also rebuilt on world render updates (which are sent for light changes).
+ */
+public class ImaginaryBlocksRenderer {
+
+	public static final ImaginaryBlocksRenderer instance = new ImaginaryBlocksRenderer();
+
+	private ImaginaryBlocksRenderer() {}
+
+	private static void addBlockQuads(Tessellator tes, IIcon icon) {
+		final double delta0 = 0.001;
+		final double delta1 = 1 - 0.001;
+
+		tes.addVertexWithUV(0, 0, delta0, icon.getMinU(), icon.getMinV());
+		tes.addVertexWithUV(0, 1, delta0, icon.getMinU(), icon.getMaxV());
+		tes.addVertexWithUV(1, 1, delta0, icon.getMaxU(), icon.getMaxV());
+		tes.addVertexWithUV(1, 0, delta0, icon.getMaxU(), icon.getMinV());
+
+		tes.addVertexWithUV(0, 0, delta1, icon.getMinU(), icon.getMinV());
+		tes.addVertexWithUV(1, 0, delta1, icon.getMinU(), icon.getMaxV());
+		tes.addVertexWithUV(1, 1, delta1, icon.getMaxU(), icon.getMaxV());
+		tes.addVertexWithUV(0, 1, delta1, icon.getMaxU(), icon.getMinV());
+
+		tes.addVertexWithUV(delta1, 0, 0, icon.getMinU(), icon.getMinV());
+		tes.addVertexWithUV(delta1, 1, 0, icon.getMinU(), icon.getMaxV());
+		tes.addVertexWithUV(delta1, 1, 1, icon.getMaxU(), icon.getMaxV());
+		tes.addVertexWithUV(delta1, 0, 1, icon.getMaxU(), icon.getMinV());
+
+		tes.addVertexWithUV(delta0, 0, 0, icon.getMinU(), icon.getMinV());
+		tes.addVertexWithUV(delta0, 0, 1, icon.getMinU(), icon.getMaxV());
+		tes.addVertexWithUV(delta0, 1, 1, icon.getMaxU(), icon.getMaxV());
+		tes.addVertexWithUV(delta0, 1, 0, icon.getMaxU(), icon.getMinV());
+
+		tes.addVertexWithUV(0, delta1, 0, icon.getMinU(), icon.getMinV());
+		tes.addVertexWithUV(0, delta1, 1, icon.getMinU(), icon.getMaxV());
+		tes.addVertexWithUV(1, delta1, 1, icon.getMaxU(), icon.getMaxV());
+		tes.addVertexWithUV(1, delta1, 0, icon.getMaxU(), icon.getMinV());
+
+		tes.addVertexWithUV(0, delta0, 0, icon.getMinU(), icon.getMinV());
+		tes.addVertexWithUV(1, delta0, 0, icon.getMinU(), icon.getMaxV());
+		tes.addVertexWithUV(1, delta0, 1, icon.getMaxU(), icon.getMaxV());
+		tes.addVertexWithUV(0, delta0, 1, icon.getMaxU(), icon.getMinV());
+	}
+
+	private static void addPanelQuads(Tessellator tes, IIcon icon, double height) {
+		tes.addVertexWithUV(0, height, 0, icon.getMinU(), icon.getMinV());
+		tes.addVertexWithUV(0, height, 1, icon.getMinU(), icon.getMaxV());
+		tes.addVertexWithUV(1, height, 1, icon.getMaxU(), icon.getMaxV());
+		tes.addVertexWithUV(1, height, 0, icon.getMaxU(), icon.getMinV());
+	}
+
+	private static void addRotatedVertex(Tessellator tes, ForgeDirection orientation, double x, double y, double z, double u, double v) {
+		// same as rotation around block center
+		final double rotatedX;
+		final double rotatedZ;
+		switch (orientation) {
+			case EAST:
+				rotatedX = -z;
+				rotatedZ = x;
+				break;
+			case SOUTH:
+				rotatedX = -x;
+				rotatedZ = -z;
+				break;
+			case WEST:
+				rotatedX = z;
+				rotatedZ = -x;
+				break;
+			default:
+				rotatedX = x;
+				rotatedZ = z;
+				break;
+		}
+
+		tes.addVertexWithUV(0.5 + rotatedX, y, 0.5 + rotatedZ, u, v);
+	}
+
+	private static void addHalfPanelQuads(Tessellator tes, IIcon icon, ForgeDirection orientation, double height, double offsetZ) {
+		addRotatedVertex(tes, orientation, -0.5, height, offsetZ - 0.5, icon.getMinU(), icon.getMaxV());
+		addRotatedVertex(tes, orientation, -0.5, height, offsetZ + 0.5, icon.getMinU(), icon.getMinV());
+		addRotatedVertex(tes, orientation, +0.5, height, offsetZ + 0.5, icon.getMaxU(), icon.getMinV());
+		addRotatedVertex(tes, orientation, +0.5, height, offsetZ - 0.5, icon.getMaxU(), icon.getMaxV());
+	}
+
+	private static class Group extends DisplayListWrapper {
+		public final Integer color;
+		public final boolean isInverted;
+		public final List<TileEntityImaginary> tiles = Lists.newArrayList();
+
+		private final int originX;
+		private final int originY;
+		private final int originZ;
+
+		public float visibility;
+
+		public Group(Integer color, boolean isInverted, int originX, int originY, int originZ) {
+			this.color = color;
+			this.isInverted = isInverted;
+			this.originX = originX;
+			this.originY = originY;
+			this.originZ = originZ;
+		}
+
+		@Override
+		public void compile() {
+			final boolean isPencil = color == null;
+			final Tessellator tes = Tessellator.instance;
+			tes.startDrawingQuads();
+
+			for (TileEntityImaginary te : tiles) {
+				tes.setTranslation(te.xCoord - originX, te.yCoord - originY, te.zCoord - originZ);
+				// same light as TESR would get
+				tes.setBrightness(te.getWorldObj().getLightBrightnessForSkyBlocks(te.xCoord, te.yCoord, te.zCoord, 0));
+
+				final ICollisionData data = te.collisionData;
+				if (data instanceof PanelData) {
+					final IIcon icon = isPencil? Blocks.imaginary.texturePencilPanel : Blocks.imaginary.textureCrayonPanel;
+					addPanelQuads(tes, icon, ((PanelData)data).height);
+				} else if (data instanceof StairsData) {
+					final StairsData sd = (StairsData)data;
+					final IIcon icon = isPencil? Blocks.imaginary.texturePencilHalfPanel : Blocks.imaginary.textureCrayonHalfPanel;
+					addHalfPanelQuads(tes, icon, sd.orientation, sd.lowerPanelHeight, 0);
+					addHalfPanelQuads(tes, icon, sd.orientation, sd.upperPanelHeight, -0.5);
+				} else {
+					final IIcon icon = isPencil? Blocks.imaginary.texturePencilBlock : Blocks.imaginary.textureCrayonBlock;
+					addBlockQuads(tes, icon);
+				}
+			}
+
+			tes.setTranslation(0, 0, 0);
+			tes.draw();
+		}
+
+		public void setColor() {
+			if (color != null) {
+				byte red = (byte)(color >> 16);
+				byte green = (byte)(color >> 8);
+				byte blue = (byte)(color >> 0);
+				GL11.glColor4ub(red, green, blue, (byte)(255 * visibility));
+			} else {
+				GL11.glColor4ub((byte)255, (byte)255, (byte)255, (byte)(255 * visibility));
+			}
+		}
+	}
+
+	private static class Section {
+		private final int originX;
+		private final int originY;
+		private final int originZ;
+
+		public final AxisAlignedBB bounds;
+
+		public final Set<TileEntityImaginary> tiles = Sets.newHashSet();
+
+		public final List<Group> groups = Lists.newArrayList();
+
+		public boolean isDirty = true;
+
+		public Section(int originX, int originY, int originZ) {
+			this.originX = originX;
+			this.originY = originY;
+			this.originZ = originZ;
+			this.bounds = AxisAlignedBB.getBoundingBox(originX, originY, originZ, originX + 16, originY + 16, originZ + 16);
+		}
+
+		private Group getGroup(Integer color, boolean isInverted) {
+			for (Group group : groups)
+				if (group.isInverted == isInverted && Objects.equal(group.color, color)) return group;
+
+			final Group group = new Group(color, isInverted, originX, originY, originZ);
+			groups.add(group);
+			return group;
+		}
+
+		public void rebuild() {
+			// groups are kept, so fading is not restarted when unrelated block changes
+			for (Group group : groups) {
+				group.tiles.clear();
+				group.reset();
+			}
+
+			for (TileEntityImaginary te : tiles)
+				getGroup(te.color, te.isInverted).tiles.add(te);
+
+			final Iterator<Group> it = groups.iterator();
+			while (it.hasNext())
+				if (it.next().tiles.isEmpty()) it.remove();
+
+			isDirty = false;
+		}
+
+		public void reset() {
+			for (Group group : groups)
+				group.reset();
+		}
+
+		public void render() {
+			GL11.glPushMatrix();
+			GL11.glTranslated(originX, originY, originZ);
+
+			for (Group group : groups) {
+				if (group.visibility <= 0) continue;
+				group.setColor();
+				group.render();
+			}
+
+			GL11.glPopMatrix();
+		}
+	}
+
+	private static long sectionKey(int x, int y, int z) {
+		return ((long)(x >> 4) & 0x3FFFFFL) << 30 | ((long)(z >> 4) & 0x3FFFFFL) << 8 | ((y >> 4) & 0xFFL);
+	}
+
+	private final Map<Long, Section> sections = Maps.newHashMap();
+
+	private final WorldListenerAdapter lightListener = new WorldListenerAdapter() {
+		@Override
+		public void markBlockForRenderUpdate(int x, int y, int z) {
+			markSectionDirty(x >> 4, y >> 4, z >> 4);
+		}
+
+		@Override
+		public void markBlockRangeForRenderUpdate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+			for (int x = minX >> 4; x <= maxX >> 4; x++)
+				for (int y = Math.max(minY, 0) >> 4; y <= Math.min(maxY, 255) >> 4; y++)
+					for (int z = minZ >> 4; z <= maxZ >> 4; z++)
+						markSectionDirty(x, y, z);
+		}
+	};
+
+	private void markSectionDirty(int sectionX, int sectionY, int sectionZ) {
+		final Section section = sections.get(sectionKey(sectionX << 4, sectionY << 4, sectionZ << 4));
+		if (section != null) section.isDirty = true;
+	}
+
+	private Section getSection(TileEntityImaginary te) {
+		final long key = sectionKey(te.xCoord, te.yCoord, te.zCoord);
+		Section section = sections.get(key);
+		if (section == null) {
+			section = new Section(te.xCoord & ~0xF, te.yCoord & ~0xF, te.zCoord & ~0xF);
+			sections.put(key, section);
+		}
+		return section;
+	}
+
+	/**
+	 * Called on client when block is placed or its data changed
+	 */
+	public void markDirty(TileEntityImaginary te) {
+		final Section section = getSection(te);
+		section.tiles.add(te);
+		section.isDirty = true;
+	}
+
+	/**
+	 * Called on client when block is removed or unloaded
+	 */
+	public void remove(TileEntityImaginary te) {
+		final long key = sectionKey(te.xCoord, te.yCoord, te.zCoord);
+		final Section section = sections.get(key);
+		if (section != null && section.tiles.remove(te)) {
+			if (section.tiles.isEmpty()) {
+				section.reset();
+				sections.remove(key);
+			} else section.isDirty = true;
+		}
+	}
+
+	private void clear() {
+		for (Section section : sections.values())
+			section.reset();
+		sections.clear();
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load evt) {
+		if (evt.world.isRemote) evt.world.addWorldAccess(lightListener);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		if (evt.world.isRemote) clear();
+	}
+
+	@SubscribeEvent
+	public void onTextureReload(TextureStitchEvent.Pre evt) {
+		// UVs are baked into lists
+		for (Section section : sections.values())
+			section.reset();
+	}
+
+	private static void updateVisibility(Group group, ImaginationContext context) {
+		final boolean isVisible = context != null && context.is(Property.VISIBLE, group.color, group.isInverted);
+
+		if (isVisible && group.visibility < 1) group.visibility = Math.min(group.visibility + Config.imaginaryFadingSpeed, 1);
+		else if (!isVisible && group.visibility > 0) group.visibility = Math.max(group.visibility - Config.imaginaryFadingSpeed, 0);
+	}
+
+	@SubscribeEvent
+	public void onRenderWorldLast(RenderWorldLastEvent evt) {
+		if (sections.isEmpty()) return;
+
+		final Entity rve = Minecraft.getMinecraft().renderViewEntity;
+		if (rve == null) return;
+
+		final EntityPlayer player = Minecraft.getMinecraft().thePlayer;
+		final ImaginationContext context = player != null? ImaginationContext.get(player) : null;
+
+		final double interpX = rve.prevPosX + (rve.posX - rve.prevPosX) * evt.partialTicks;
+		final double interpY = rve.prevPosY + (rve.posY - rve.prevPosY) * evt.partialTicks;
+		final double interpZ = rve.prevPosZ + (rve.posZ - rve.prevPosZ) * evt.partialTicks;
+
+		final Frustrum frustum = new Frustrum();
+		frustum.setPosition(interpX, interpY, interpZ);
+
+		Minecraft.getMinecraft().renderEngine.bindTexture(TextureMap.locationBlocksTexture);
+		Minecraft.getMinecraft().entityRenderer.enableLightmap(evt.partialTicks);
+		GL11.glAlphaFunc(GL11.GL_GREATER, 0.0F);
+		GL11.glDisable(GL11.GL_LIGHTING);
+		GL11.glDisable(GL11.GL_CULL_FACE);
+		GL11.glEnable(GL11.GL_BLEND);
+		GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+
+		GL11.glPushMatrix();
+		GL11.glTranslated(-interpX, -interpY, -interpZ);
+
+		for (Section section : sections.values()) {
+			if (section.isDirty) section.rebuild();
+
+			for (Group group : section.groups)
+				updateVisibility(group, context);
+
+			if (frustum.isBoundingBoxInFrustum(section.bounds)) section.render();
+		}
+
+		GL11.glPopMatrix();
+
+		GL11.glColor4f(1, 1, 1, 1);
+		GL11.glEnable(GL11.GL_LIGHTING);
+		GL11.glEnable(GL11.GL_CULL_FACE);
+		GL11.glDisable(GL11.GL_BLEND);
+		GL11.glAlphaFunc(GL11.GL_GREATER, 0.1F);
+		Minecraft.getMinecraft().entityRenderer.disableLightmap(evt.partialTicks);
+	}
+}
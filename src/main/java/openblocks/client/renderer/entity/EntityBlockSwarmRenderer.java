@@ -0,0 +1,105 @@
+package openblocks.client.renderer.entity;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.client.renderer.RenderBlocks;
+import net.minecraft.client.renderer.entity.Render;
+import net.minecraft.client.renderer.texture.TextureMap;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.client.event.TextureStitchEvent;
+import net.minecraftforge.common.MinecraftForge;
+import openblocks.common.entity.EntityBlockSwarm;
+import openmods.renderer.DisplayListWrapper;
+import openmods.utils.TextureUtils;
+
+import org.lwjgl.opengl.GL11;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+public class EntityBlockSwarmRenderer extends Render {
+
+	private final RenderBlocks renderBlocks = new RenderBlocks();
+
+	private class SwarmDisplayList extends DisplayListWrapper {
+		private final EntityBlockSwarm.Members members;
+
+		private int compiledVersion;
+
+		public SwarmDisplayList(EntityBlockSwarm.Members members) {
+			this.members = members;
+		}
+
+		public void update() {
+			if (compiledVersion != members.getVersion()) reset();
+		}
+
+		@Override
+		public void compile() {
+			compiledVersion = members.getVersion();
+			for (int i = 0; i < members.size(); i++) {
+				GL11.glPushMatrix();
+				GL11.glTranslatef(members.getOffsetX(i), members.getOffsetY(i) + 0.5f, members.getOffsetZ(i));
+				renderBlocks.renderBlockAsItem(members.getBlock(i), members.getMeta(i), 1.0f);
+				GL11.glPopMatrix();
+			}
+		}
+	}
+
+	private final Map<EntityBlockSwarm, SwarmDisplayList> displayLists = new WeakHashMap<EntityBlockSwarm, SwarmDisplayList>();
+
+	public EntityBlockSwarmRenderer() {
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+
+	@SubscribeEvent
+	public void onTextureChange(TextureStitchEvent evt) {
+		if (evt.map.getTextureType() == TextureUtils.TEXTURE_MAP_BLOCKS) {
+			for (SwarmDisplayList list : displayLists.values())
+				list.reset();
+		}
+	}
+
+	private SwarmDisplayList getDisplayList(EntityBlockSwarm swarm) {
+		SwarmDisplayList result = displayLists.get(swarm);
+		if (result == null) {
+			// few swarms exist at once, so it's cheap place to free lists of dead ones
+			Iterator<Map.Entry<EntityBlockSwarm, SwarmDisplayList>> it = displayLists.entrySet().iterator();
+			while (it.hasNext()) {
+				Map.Entry<EntityBlockSwarm, SwarmDisplayList> e = it.next();
+				if (e.getKey().isDead) {
+					e.getValue().reset();
+					it.remove();
+				}
+			}
+
+			result = new SwarmDisplayList(swarm.members);
+			displayLists.put(swarm, result);
+		}
+		return result;
+	}
+
+	@Override
+	public void doRender(Entity entity, double x, double y, double z, float yaw, float partialTick) {
+		EntityBlockSwarm swarm = (EntityBlockSwarm)entity;
+		if (swarm.members.isEmpty()) return;
+
+		SwarmDisplayList list = getDisplayList(swarm);
+		list.update();
+
+		bindEntityTexture(swarm);
+		GL11.glColor3f(1, 1, 1);
+		GL11.glPushMatrix();
+		GL11.glTranslated(x, y, z);
+		list.render();
+		GL11.glPopMatrix();
+	}
+
+	@Override
+	protected ResourceLocation getEntityTexture(Entity entity) {
+		return TextureMap.locationBlocksTexture;
+	}
+
+}
@@ -6,16 +6,67 @@ import net.minecraft.client.renderer.tileentity.TileEntitySpecialRenderer;
 import net.minecraft.entity.Entity;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
+import net.minecraftforge.client.event.TextureStitchEvent;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.ForgeDirection;
 import openblocks.common.TrophyHandler.Trophy;
 import openblocks.common.tileentity.TileEntityTrophy;
+import openmods.renderer.DisplayListWrapper;
 import openmods.utils.BlockUtils;
+import openmods.utils.TextureUtils;
 import openmods.utils.render.RenderUtils;
 
 import org.lwjgl.opengl.GL11;
 
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
 public class TileEntityTrophyRenderer extends TileEntitySpecialRenderer {
 
+	private static class TrophyDisplayList extends DisplayListWrapper {
+		private final Trophy type;
+
+		public TrophyDisplayList(Trophy type) {
+			this.type = type;
+		}
+
+		@Override
+		public void compile() {
+			final Entity entity = type.getEntity();
+			final World renderWorld = RenderUtils.getRenderWorld();
+			final Render renderer = RenderManager.instance.getEntityRenderObject(entity);
+
+			final double ratio = type.getScale();
+			GL11.glScaled(ratio, ratio, ratio);
+
+			synchronized (entity) {
+				entity.worldObj = renderWorld;
+				renderer.doRender(entity, 0, 0, 0, 0, 0);
+				entity.worldObj = null;
+			}
+		}
+	}
+
+	// dummy entities never move, so whole render (including scale) can be baked
+	private static final TrophyDisplayList[] DISPLAY_LISTS = new TrophyDisplayList[Trophy.VALUES.length];
+
+	static {
+		for (Trophy type : Trophy.VALUES)
+			DISPLAY_LISTS[type.ordinal()] = new TrophyDisplayList(type);
+	}
+
+	public TileEntityTrophyRenderer() {
+		MinecraftForge.EVENT_BUS.register(this);
+	}
+
+	@SubscribeEvent
+	public void onTextureChange(TextureStitchEvent evt) {
+		// entity textures may be reloaded with new ids
+		if (evt.map.getTextureType() == TextureUtils.TEXTURE_MAP_BLOCKS) {
+			for (TrophyDisplayList list : DISPLAY_LISTS)
+				list.reset();
+		}
+	}
+
 	@Override
 	public void renderTileEntityAt(TileEntity tileentity, double x, double y, double z, float partialTick) {
 		TileEntityTrophy trophy = (TileEntityTrophy)tileentity;
@@ -35,8 +86,6 @@ public class TileEntityTrophyRenderer extends TileEntitySpecialRenderer {
 			GL11.glTranslated(x, y + type.getVerticalOffset() + 0.2, z);
 			GL11.glRotatef(angle, 0, 1, 0);
 
-			final double ratio = type.getScale();
-			GL11.glScaled(ratio, ratio, ratio);
 			World renderWorld = RenderUtils.getRenderWorld();
 			if (renderWorld != null) {
 				Render renderer = RenderManager.instance.getEntityRenderObject(entity);
@@ -45,13 +94,7 @@ public class TileEntityTrophyRenderer extends TileEntitySpecialRenderer {
 				if (renderer != null && renderer.getFontRendererFromRenderManager() != null) {
 					GL11.glPushAttrib(GL11.GL_ALL_ATTRIB_BITS);
 					RenderUtils.enableLightmap();
-
-					synchronized (entity) {
-						entity.worldObj = renderWorld;
-						renderer.doRender(entity, 0, 0, 0, 0, 0);
-						entity.worldObj = null;
-					}
-
+					DISPLAY_LISTS[type.ordinal()].render();
 					GL11.glPopAttrib();
 				}
 			}
@@ -0,0 +1,97 @@
+package openblocks.common;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Sets;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Server side ticking for tile entities that are idle most of the time.
+ * Such tiles should return false from {@link TileEntity#canUpdate()} and call {@link #wake(TileEntity)} when they have something to do.
+ */
+public class ActiveTileTicker {
+
+	public interface IActiveTile {
+		/**
+		 * @return false to stop ticking until woken up again
+		 */
+		public boolean updateActive();
+	}
+
+	private static class WorldTicker {
+		private final Set<TileEntity> active = Sets.newLinkedHashSet();
+
+		// tiles woken during update, to avoid modifying set while iterating
+		private final List<TileEntity> woken = Lists.newArrayList();
+
+		private boolean isUpdating;
+
+		public void wake(TileEntity te) {
+			if (isUpdating) woken.add(te);
+			else active.add(te);
+		}
+
+		public void update(World world) {
+			isUpdating = true;
+			try {
+				final Iterator<TileEntity> it = active.iterator();
+				while (it.hasNext()) {
+					final TileEntity te = it.next();
+					// unloaded tiles are not invalidated, so chunk has to be checked too
+					if (te.isInvalid() || !world.blockExists(te.xCoord, te.yCoord, te.zCoord) || !((IActiveTile)te).updateActive()) it.remove();
+				}
+			} finally {
+				isUpdating = false;
+			}
+
+			if (!woken.isEmpty()) {
+				active.addAll(woken);
+				woken.clear();
+			}
+		}
+	}
+
+	public static final ActiveTileTicker instance = new ActiveTileTicker();
+
+	private final Map<World, WorldTicker> tickers = new MapMaker().weakKeys().makeMap();
+
+	private ActiveTileTicker() {}
+
+	public <T extends TileEntity & IActiveTile> void wake(T te) {
+		final World world = te.getWorldObj();
+		if (world == null || world.isRemote) return;
+
+		WorldTicker ticker = tickers.get(world);
+		if (ticker == null) {
+			ticker = new WorldTicker();
+			tickers.put(world, ticker);
+		}
+
+		ticker.wake(te);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		tickers.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+
+		final WorldTicker ticker = tickers.get(evt.world);
+		if (ticker != null) ticker.update(evt.world);
+	}
+}
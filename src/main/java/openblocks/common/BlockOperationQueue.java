@@ -0,0 +1,242 @@
+package openblocks.common;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldServer;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.event.world.WorldEvent;
+import openblocks.Config;
+import openmods.fakeplayer.FakePlayerPool;
+import openmods.fakeplayer.FakePlayerPool.PlayerUser;
+import openmods.fakeplayer.OpenModsFakePlayer;
+import openmods.inventory.legacy.ItemDistribution;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Block breaker and placer actions requested during tick are executed at the end of it, grouped by chunk.
+ * Every group borrows single fake player and drops going into same inventory are merged before insertion.
+ * At most {@link Config#blockOperationsPerTick} actions are done in single tick, rest waits for next ticks.
+ */
+public class BlockOperationQueue {
+
+	public interface IBlockOperation {
+		public void execute(OpenModsFakePlayer player, Batch batch);
+	}
+
+	private static class DropTarget {
+		public final TileEntity te;
+		public final ForgeDirection side;
+
+		public DropTarget(TileEntity te, ForgeDirection side) {
+			this.te = te;
+			this.side = side;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(te) * 31 + side.ordinal();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof DropTarget)) return false;
+			final DropTarget other = (DropTarget)obj;
+			return te == other.te && side == other.side;
+		}
+	}
+
+	public static class Batch {
+		private final Map<DropTarget, List<EntityItem>> drops = Maps.newLinkedHashMap();
+
+		public void addDrops(TileEntity target, ForgeDirection side, List<EntityItem> items) {
+			if (items.isEmpty()) return;
+
+			final DropTarget key = new DropTarget(target, side);
+			List<EntityItem> targetDrops = drops.get(key);
+			if (targetDrops == null) {
+				targetDrops = Lists.newArrayList();
+				drops.put(key, targetDrops);
+			}
+			targetDrops.addAll(items);
+		}
+
+		private static boolean canMerge(ItemStack a, ItemStack b) {
+			return a.getItem() == b.getItem() &&
+					a.getItemDamage() == b.getItemDamage() &&
+					a.isStackable() &&
+					ItemStack.areItemStackTagsEqual(a, b);
+		}
+
+		private static void insertDrops(TileEntity target, ForgeDirection side, List<EntityItem> drops) {
+			final int count = drops.size();
+			final boolean[] used = new boolean[count];
+			final List<EntityItem> group = Lists.newArrayList();
+
+			for (int i = 0; i < count; i++) {
+				if (used[i]) continue;
+
+				final ItemStack first = drops.get(i).getEntityItem();
+				if (first == null) continue;
+
+				// same items are inserted as single stack, so inventory is searched only once
+				group.clear();
+				group.add(drops.get(i));
+				int total = first.stackSize;
+				for (int j = i + 1; j < count; j++) {
+					if (used[j]) continue;
+					final ItemStack other = drops.get(j).getEntityItem();
+					if (other != null && canMerge(first, other) && total + other.stackSize <= first.getMaxStackSize()) {
+						group.add(drops.get(j));
+						total += other.stackSize;
+						used[j] = true;
+					}
+				}
+
+				final ItemStack merged = first.copy();
+				merged.stackSize = total;
+				ItemDistribution.insertItemInto(merged, target, side, true);
+
+				int inserted = total - merged.stackSize;
+				for (EntityItem drop : group) {
+					if (inserted <= 0) break;
+					final ItemStack stack = drop.getEntityItem();
+					final int taken = Math.min(inserted, stack.stackSize);
+					stack.stackSize -= taken;
+					inserted -= taken;
+					if (stack.stackSize <= 0) drop.setDead();
+					else drop.setEntityItemStack(stack);
+				}
+			}
+		}
+
+		private void flush() {
+			for (Map.Entry<DropTarget, List<EntityItem>> e : drops.entrySet()) {
+				final DropTarget target = e.getKey();
+				if (!target.te.isInvalid()) insertDrops(target.te, target.side, e.getValue());
+			}
+			drops.clear();
+		}
+	}
+
+	private static long chunkKey(int chunkX, int chunkZ) {
+		return ((long)chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	private static class WorldQueue {
+		private final Map<Long, List<IBlockOperation>> chunks = Maps.newLinkedHashMap();
+
+		// operations requested while queue is executed
+		private final List<Long> addedKeys = Lists.newArrayList();
+		private final List<IBlockOperation> addedOperations = Lists.newArrayList();
+
+		private boolean isUpdating;
+
+		private void addToChunk(Long key, IBlockOperation operation) {
+			List<IBlockOperation> operations = chunks.get(key);
+			if (operations == null) {
+				operations = Lists.newArrayList();
+				chunks.put(key, operations);
+			}
+			operations.add(operation);
+		}
+
+		public void add(long key, IBlockOperation operation) {
+			if (isUpdating) {
+				addedKeys.add(key);
+				addedOperations.add(operation);
+			} else addToChunk(key, operation);
+		}
+
+		private static void executeBatch(WorldServer world, final List<IBlockOperation> operations) {
+			final Batch batch = new Batch();
+			FakePlayerPool.instance.executeOnPlayer(world, new PlayerUser() {
+				@Override
+				public void usePlayer(OpenModsFakePlayer fakePlayer) {
+					for (IBlockOperation operation : operations)
+						operation.execute(fakePlayer, batch);
+				}
+			});
+			batch.flush();
+		}
+
+		public void update(WorldServer world) {
+			// at least one operation, so queue can't grow forever with bad config
+			int budget = Math.max(1, Config.blockOperationsPerTick);
+
+			isUpdating = true;
+			try {
+				final Iterator<List<IBlockOperation>> it = chunks.values().iterator();
+				while (budget > 0 && it.hasNext()) {
+					final List<IBlockOperation> operations = it.next();
+					final List<IBlockOperation> batch = operations.subList(0, Math.min(budget, operations.size()));
+					budget -= batch.size();
+					executeBatch(world, batch);
+					batch.clear();
+					if (operations.isEmpty()) it.remove();
+				}
+			} finally {
+				isUpdating = false;
+			}
+
+			for (int i = 0; i < addedKeys.size(); i++)
+				addToChunk(addedKeys.get(i), addedOperations.get(i));
+
+			addedKeys.clear();
+			addedOperations.clear();
+		}
+
+		public boolean isEmpty() {
+			return chunks.isEmpty() && addedKeys.isEmpty();
+		}
+	}
+
+	public static final BlockOperationQueue instance = new BlockOperationQueue();
+
+	private final Map<World, WorldQueue> queues = new MapMaker().weakKeys().makeMap();
+
+	private BlockOperationQueue() {}
+
+	/**
+	 * @param x
+	 *            x coordinate of affected block, used for grouping
+	 * @param z
+	 *            z coordinate of affected block, used for grouping
+	 */
+	public void schedule(World world, int x, int z, IBlockOperation operation) {
+		if (!(world instanceof WorldServer)) return;
+
+		WorldQueue queue = queues.get(world);
+		if (queue == null) {
+			queue = new WorldQueue();
+			queues.put(world, queue);
+		}
+
+		queue.add(chunkKey(x >> 4, z >> 4), operation);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		queues.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || !(evt.world instanceof WorldServer)) return;
+
+		final WorldQueue queue = queues.get(evt.world);
+		if (queue != null && !queue.isEmpty()) queue.update((WorldServer)evt.world);
+	}
+}
@@ -1,46 +1,272 @@
 package openblocks.common;
 
-import java.util.Map;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.MathHelper;
+import net.minecraft.util.Vec3;
+import net.minecraft.world.World;
+import net.minecraftforge.common.IExtendedEntityProperties;
+import net.minecraftforge.event.entity.EntityEvent;
 import openblocks.common.entity.EntityMagnet;
+import openmods.network.event.EventDirection;
+import openmods.network.event.NetworkEvent;
+import openmods.network.event.NetworkEventManager;
+import openmods.network.event.NetworkEventMeta;
+import openmods.utils.ByteUtils;
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
-import com.google.common.collect.MapMaker;
-
+/**
+ * Crane state is stored in player extended properties. Server sends only changed values to the player and everyone tracking that player, clients smooth them and move magnet on their own.
+ */
 public class CraneRegistry {
-	private static final double MIN_LENGTH = 0.25;
-	private static final double MAX_LENGTH = 10;
-	private static final double LENGTH_DELTA = 0.1;
 
-	public static class Data {
-		public boolean isDetected;
-		public boolean isExtending;
-		public double length = MIN_LENGTH;
+	public static final String PROPERTY_NAME = "OpenBlocksCrane";
+
+	public static class CraneType {
+		public static final CraneType DEFAULT = new CraneType(2.0, 0.25, 10, 0.1);
 
-		public float prevYaw;
-		public double prevPosX;
-		public double prevPosY;
-		public double prevPosZ;
+		public final double armRadius;
+		public final double minLength;
+		public final double maxLength;
+		public final double lengthDelta;
 
-		private Data(EntityPlayer player) {
-			prevYaw = player.rotationYaw;
-			prevPosX = player.posX;
-			prevPosY = player.posY;
-			prevPosZ = player.posZ;
+		public CraneType(double armRadius, double minLength, double maxLength, double lengthDelta) {
+			this.armRadius = armRadius;
+			this.minLength = minLength;
+			this.maxLength = maxLength;
+			this.lengthDelta = lengthDelta;
 		}
+	}
+
+	private static final int CHANGED_LENGTH = 1;
+	private static final int CHANGED_EXTENDING = 2;
+	private static final int CHANGED_YAW = 4;
+
+	@NetworkEventMeta(direction = EventDirection.S2C)
+	public static class CraneStateEvent extends NetworkEvent {
+		private int entityId;
+		private int changes;
+		private float length;
+		private boolean isExtending;
+		private float yaw;
 
-		public void updateLength() {
-			if (isExtending && length < MAX_LENGTH) length += LENGTH_DELTA;
-			else if (!isExtending && length > MIN_LENGTH) length -= LENGTH_DELTA;
+		public CraneStateEvent() {}
+
+		private CraneStateEvent(int entityId, int changes, Data data) {
+			this.entityId = entityId;
+			this.changes = changes;
+			this.length = (float)data.length;
+			this.isExtending = data.isExtending;
+			this.yaw = data.yaw;
+		}
+
+		@Override
+		protected void readFromStream(DataInput input) throws IOException {
+			entityId = ByteUtils.readVLI(input);
+			changes = input.readByte();
+			if ((changes & CHANGED_LENGTH) != 0) length = input.readFloat();
+			if ((changes & CHANGED_EXTENDING) != 0) isExtending = input.readBoolean();
+			if ((changes & CHANGED_YAW) != 0) yaw = input.readFloat();
+		}
+
+		@Override
+		protected void writeToStream(DataOutput output) throws IOException {
+			ByteUtils.writeVLI(output, entityId);
+			output.writeByte(changes);
+			if ((changes & CHANGED_LENGTH) != 0) output.writeFloat(length);
+			if ((changes & CHANGED_EXTENDING) != 0) output.writeBoolean(isExtending);
+			if ((changes & CHANGED_YAW) != 0) output.writeFloat(yaw);
 		}
 	}
 
-	private Map<EntityPlayer, Data> itemData = new MapMaker().weakKeys().makeMap();
-	private Map<EntityPlayer, EntityMagnet> playersMagnets = new MapMaker().weakKeys().weakValues().makeMap();
+	public static class Data implements IExtendedEntityProperties {
+		// while arm is moving, length is sent only every few steps - clients smooth it anyway
+		private static final double LENGTH_SYNC_STEP = 0.5;
+		private static final float YAW_SYNC_THRESHOLD = 1;
+		private static final double CLIENT_SMOOTHING = 0.3;
+
+		private boolean isExtending;
+		private double length = CraneType.DEFAULT.minLength;
+		private float yaw;
+
+		private boolean isMoving;
+		private int changes;
+		private double syncedLength = length;
+		private float syncedYaw;
+
+		// client side, values received from server
+		private double targetLength = length;
+		private float targetYaw;
+
+		private float cachedYaw = Float.NaN;
+		private double armCos;
+		private double armSin;
+
+		// last position without arm collision
+		private boolean hasSafePosition;
+		private float safeYaw;
+		private double safePosX;
+		private double safePosY;
+		private double safePosZ;
+
+		private WeakReference<EntityMagnet> magnet = new WeakReference<EntityMagnet>(null);
+
+		@Override
+		public void init(Entity entity, World world) {
+			// called from constructor, so entity has no position or rotation yet
+		}
+
+		@Override
+		public void saveNBTData(NBTTagCompound entityTag) {
+			NBTTagCompound tag = new NBTTagCompound();
+			tag.setDouble("Length", length);
+			tag.setBoolean("Extending", isExtending);
+			entityTag.setTag(PROPERTY_NAME, tag);
+		}
+
+		@Override
+		public void loadNBTData(NBTTagCompound entityTag) {
+			NBTTagCompound tag = entityTag.getCompoundTag(PROPERTY_NAME);
+			if (tag.hasKey("Length")) length = syncedLength = targetLength = tag.getDouble("Length");
+			isExtending = tag.getBoolean("Extending");
+		}
+
+		public boolean isExtending() {
+			return isExtending;
+		}
+
+		public void setExtending(boolean isExtending) {
+			if (this.isExtending != isExtending) {
+				this.isExtending = isExtending;
+				changes |= CHANGED_EXTENDING;
+			}
+		}
+
+		public double getLength() {
+			return length;
+		}
+
+		public void updateLength(CraneType type) {
+			if (isExtending && length < type.maxLength) length = Math.min(length + type.lengthDelta, type.maxLength);
+			else if (!isExtending && length > type.minLength) length = Math.max(length - type.lengthDelta, type.minLength);
+			else return;
+
+			isMoving = true;
+		}
+
+		/**
+		 * Client side, for local player - local rotation is always more recent than anything server can send
+		 */
+		public void setLocalYaw(float yaw) {
+			this.yaw = targetYaw = yaw;
+		}
+
+		public void updateServer(EntityPlayerMP player) {
+			yaw = player.rotationYaw;
+			if (Math.abs(MathHelper.wrapAngleTo180_float(yaw - syncedYaw)) >= YAW_SYNC_THRESHOLD) {
+				changes |= CHANGED_YAW;
+				syncedYaw = yaw;
+			}
+
+			if (length != syncedLength && (!isMoving || Math.abs(length - syncedLength) >= LENGTH_SYNC_STEP)) {
+				changes |= CHANGED_LENGTH;
+				syncedLength = length;
+			}
+			isMoving = false;
+
+			if (changes != 0) {
+				CraneStateEvent evt = new CraneStateEvent(player.getEntityId(), changes, this);
+				NetworkEventManager.INSTANCE.dispatcher().senders.entity.sendMessage(evt, player);
+				NetworkEventManager.INSTANCE.dispatcher().senders.player.sendMessage(evt, player);
+				changes = 0;
+			}
+		}
+
+		public void updateClient() {
+			length += (targetLength - length) * CLIENT_SMOOTHING;
+			yaw += MathHelper.wrapAngleTo180_float(targetYaw - yaw) * CLIENT_SMOOTHING;
+		}
+
+		private void applyChanges(CraneStateEvent evt, boolean isLocalPlayer) {
+			if ((evt.changes & CHANGED_LENGTH) != 0) targetLength = evt.length;
+			if ((evt.changes & CHANGED_EXTENDING) != 0) isExtending = evt.isExtending;
+			if ((evt.changes & CHANGED_YAW) != 0 && !isLocalPlayer) targetYaw = evt.yaw;
+		}
+
+		/**
+		 * Used for initial state on clients, received with magnet spawn data
+		 */
+		public void setInitialState(double length, boolean isExtending, float yaw) {
+			this.length = targetLength = length;
+			this.isExtending = isExtending;
+			this.yaw = targetYaw = yaw;
+		}
+
+		public float getYaw() {
+			return yaw;
+		}
+
+		/**
+		 * Writes magnet position into result, instead of allocating new vector every tick
+		 */
+		public void getArmTarget(EntityPlayer player, CraneType type, Vec3 result) {
+			if (yaw != cachedYaw) {
+				cachedYaw = yaw;
+				final float angle = (yaw + 90) * (float)Math.PI / 180;
+				armCos = MathHelper.cos(angle);
+				armSin = MathHelper.sin(angle);
+			}
+
+			result.xCoord = player.posX + type.armRadius * armCos;
+			result.yCoord = player.posY + player.height - length;
+			result.zCoord = player.posZ + type.armRadius * armSin;
+		}
+
+		public void storeSafePosition(EntityPlayer player) {
+			hasSafePosition = true;
+			safeYaw = player.rotationYaw;
+			safePosX = player.posX;
+			safePosY = player.posY;
+			safePosZ = player.posZ;
+		}
+
+		public void restoreSafePosition(EntityPlayer player) {
+			if (!hasSafePosition) return;
+			player.rotationYaw = safeYaw;
+			player.posX = safePosX;
+			player.posY = safePosY;
+			player.posZ = safePosZ;
+			player.motionX = player.motionY = player.motionZ = 0;
+		}
+
+		public EntityMagnet getMagnet() {
+			return magnet.get();
+		}
+	}
+
+	public static class CraneStateHandler {
+		@SubscribeEvent
+		public void onCraneStateChange(CraneStateEvent evt) {
+			final Entity e = evt.sender.worldObj.getEntityByID(evt.entityId);
+			if (e instanceof EntityPlayer) {
+				final Data data = instance.getData((EntityPlayer)e);
+				if (data != null) data.applyChanges(evt, e == evt.sender);
+			}
+		}
+	}
 
 	public void ensureMagnetExists(EntityPlayer player) {
-		EntityMagnet magnet = playersMagnets.get(player);
+		Data data = getData(player);
+		if (data == null) return;
+
+		EntityMagnet magnet = data.getMagnet();
 
 		if (magnet == null || magnet.isDead) {
 			createMagnetForPlayer(player);
@@ -57,32 +283,28 @@ public class CraneRegistry {
 	}
 
 	public EntityMagnet getMagnetForPlayer(EntityPlayer player) {
-		return playersMagnets.get(player);
+		Data data = getData(player);
+		return data != null? data.getMagnet() : null;
 	}
 
 	public void bindMagnetToPlayer(Entity owner, EntityMagnet magnet) {
-		if (owner instanceof EntityPlayer) playersMagnets.put((EntityPlayer)owner, magnet);
+		if (owner instanceof EntityPlayer) {
+			Data data = getData((EntityPlayer)owner);
+			if (data != null) data.magnet = new WeakReference<EntityMagnet>(magnet);
+		}
 	}
 
-	public static final double ARM_RADIUS = 2.0;
-
 	public final static CraneRegistry instance = new CraneRegistry();
 
 	private CraneRegistry() {}
 
-	public Data getData(EntityPlayer player, boolean canCreate) {
-		Data result = itemData.get(player);
-
-		if (result == null && canCreate) {
-			result = new Data(player);
-			itemData.put(player, result);
-		}
-
-		return result;
+	public Data getData(EntityPlayer player) {
+		IExtendedEntityProperties prop = player.getExtendedProperties(PROPERTY_NAME);
+		return (prop instanceof Data)? (Data)prop : null;
 	}
 
-	public double getCraneMagnetDistance(EntityPlayer player) {
-		Data data = getData(player, false);
-		return data != null? data.length : MIN_LENGTH;
+	@SubscribeEvent
+	public void onEntityConstruct(EntityEvent.EntityConstructing evt) {
+		if (evt.entity instanceof EntityPlayer) evt.entity.registerExtendedProperties(PROPERTY_NAME, new Data());
 	}
 }
@@ -0,0 +1,138 @@
+package openblocks.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityList;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import openblocks.Config;
+import openmods.Log;
+import openmods.config.properties.ConfigurationChange;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Sets;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Single {@link EntityJoinWorldEvent} subscriber for all OpenBlocks listeners.
+ * Listeners for every joining entity class are resolved once, so most spawns (which nobody is interested in) end after one map lookup.
+ * Mobs from {@link Config#disableMobNames} are part of same table.
+ */
+public class EntityJoinDispatcher {
+
+	public interface IJoinListener {
+		public void onEntityJoinWorld(EntityJoinWorldEvent evt);
+	}
+
+	private static class Registration {
+		public final Class<?> cls;
+		public final IJoinListener listener;
+
+		public Registration(Class<?> cls, IJoinListener listener) {
+			this.cls = cls;
+			this.listener = listener;
+		}
+	}
+
+	private static final IJoinListener[] NO_LISTENERS = new IJoinListener[0];
+
+	private static final IJoinListener BLACKLISTED = new IJoinListener() {
+		@Override
+		public void onEntityJoinWorld(EntityJoinWorldEvent evt) {
+			evt.entity.setDead();
+			evt.setCanceled(true);
+		}
+	};
+
+	public static final EntityJoinDispatcher instance = new EntityJoinDispatcher();
+
+	private final List<Registration> registrations = Lists.newArrayList();
+
+	// entity classes don't override equals, so this is identity lookup (event is fired on both client and server thread)
+	private final Map<Class<?>, IJoinListener[]> listeners = new MapMaker().makeMap();
+
+	private Set<Class<?>> entityBlacklist;
+
+	private EntityJoinDispatcher() {}
+
+	/**
+	 * @param cls
+	 *            listener is called for entities of this class and its subclasses
+	 */
+	public synchronized void register(Class<?> cls, IJoinListener listener) {
+		registrations.add(new Registration(cls, listener));
+		listeners.clear();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Set<Class<?>> compileBlacklist() {
+		final Set<Class<?>> result = Sets.newIdentityHashSet();
+
+		Set<String> unknownNames = Sets.newHashSet();
+		for (String name : Config.disableMobNames) {
+
+			Class<?> cls = (Class<?>)EntityList.stringToClassMapping.get(name);
+			if (cls != null) result.add(cls);
+			else unknownNames.add(name);
+		}
+
+		// using Class.forName is unsafe
+		for (Class<?> cls : (Set<Class<?>>)EntityList.classToStringMapping.keySet()) {
+			if (unknownNames.isEmpty()) break;
+			if (unknownNames.remove(cls.getName())) result.add(cls);
+		}
+
+		if (!unknownNames.isEmpty()) Log.warn("Can't identify mobs for blacklist: %s", unknownNames);
+		return result;
+	}
+
+	private synchronized IJoinListener[] resolve(Class<?> cls) {
+		IJoinListener[] result = listeners.get(cls);
+		if (result != null) return result;
+
+		// entity registry must be complete, so blacklist is compiled on first use
+		if (entityBlacklist == null) entityBlacklist = compileBlacklist();
+
+		if (entityBlacklist.contains(cls)) {
+			result = new IJoinListener[] { BLACKLISTED };
+		} else {
+			final List<IJoinListener> matching = Lists.newArrayList();
+			for (Registration registration : registrations)
+				if (registration.cls.isAssignableFrom(cls)) matching.add(registration.listener);
+
+			result = matching.isEmpty()? NO_LISTENERS : matching.toArray(new IJoinListener[matching.size()]);
+		}
+
+		listeners.put(cls, result);
+		return result;
+	}
+
+	@SubscribeEvent
+	public void onReconfigure(ConfigurationChange.Post evt) {
+		if (evt.check("additional", "disableMobNames")) {
+			synchronized (this) {
+				entityBlacklist = null;
+				listeners.clear();
+			}
+		}
+	}
+
+	@SubscribeEvent
+	public void onEntityJoinWorld(EntityJoinWorldEvent evt) {
+		final Entity entity = evt.entity;
+		if (entity == null) return;
+
+		final Class<?> cls = entity.getClass();
+		IJoinListener[] result = listeners.get(cls);
+		if (result == null) result = resolve(cls);
+
+		for (IJoinListener listener : result) {
+			listener.onEntityJoinWorld(evt);
+			if (evt.isCanceled()) return;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package openblocks.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Server side UUID to entity lookup, updated by world listener.
+ */
+public class EntityUuidIndex {
+
+	private static class WorldIndex extends WorldListenerAdapter {
+		private final Map<UUID, Entity> entities = Maps.newHashMap();
+
+		@Override
+		public void onEntityCreate(Entity entity) {
+			entities.put(entity.getUniqueID(), entity);
+		}
+
+		@Override
+		public void onEntityDestroy(Entity entity) {
+			final UUID uuid = entity.getUniqueID();
+			if (entities.get(uuid) == entity) entities.remove(uuid);
+		}
+	}
+
+	public static final EntityUuidIndex instance = new EntityUuidIndex();
+
+	private final Map<World, WorldIndex> indices = new MapMaker().weakKeys().makeMap();
+
+	private EntityUuidIndex() {}
+
+	private WorldIndex createIndex(World world) {
+		final WorldIndex index = new WorldIndex();
+		indices.put(world, index);
+		world.addWorldAccess(index);
+		return index;
+	}
+
+	public Entity getEntity(World world, UUID uuid) {
+		WorldIndex index = indices.get(world);
+		if (index == null) {
+			// world loaded before we started listening
+			index = createIndex(world);
+			@SuppressWarnings("unchecked")
+			final List<Entity> entities = world.loadedEntityList;
+			for (Entity entity : entities)
+				index.onEntityCreate(entity);
+		}
+
+		final Entity entity = index.entities.get(uuid);
+		return (entity != null && !entity.isDead)? entity : null;
+	}
+
+	@SubscribeEvent
+	public void onWorldLoad(WorldEvent.Load evt) {
+		if (!evt.world.isRemote) createIndex(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		indices.remove(evt.world);
+	}
+}
@@ -0,0 +1,150 @@
+package openblocks.common;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.monster.EntitySkeleton;
+import net.minecraft.entity.monster.IMob;
+import net.minecraft.entity.passive.EntityBat;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.world.EnumDifficulty;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import openblocks.Config;
+import openblocks.common.tileentity.TileEntityGrave;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Sets;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Grave mob spawning. Instead of rolling {@link Config#skeletonSpawnRate} every tick, every grave gets next spawn time drawn from exponential distribution (which gives same average rate).
+ * Mobs are counted only when grave actually tries to spawn, in same box as before.
+ */
+public class GraveSpawnScheduler {
+
+	// horizontal and vertical distance of counted mobs from grave block
+	private static final int MOB_SEARCH_RANGE = 7;
+
+	private static class ScheduledGrave implements Comparable<ScheduledGrave> {
+		public final TileEntityGrave grave;
+		public long spawnTime;
+
+		public ScheduledGrave(TileEntityGrave grave, long spawnTime) {
+			this.grave = grave;
+			this.spawnTime = spawnTime;
+		}
+
+		@Override
+		public int compareTo(ScheduledGrave o) {
+			return spawnTime < o.spawnTime? -1 : (spawnTime > o.spawnTime? 1 : 0);
+		}
+	}
+
+	private static class WorldScheduler {
+		private final PriorityQueue<ScheduledGrave> queue = new PriorityQueue<ScheduledGrave>();
+
+		private final Set<TileEntityGrave> graves = Sets.newHashSet();
+
+		public void add(TileEntityGrave grave, long now, Random random) {
+			if (graves.add(grave)) queue.add(new ScheduledGrave(grave, now + nextSpawnDelay(random)));
+		}
+
+		private static boolean isBelowMobCap(World world, int x, int y, int z) {
+			final AxisAlignedBB box = AxisAlignedBB.getBoundingBox(x, y, z, x + 1, y + 1, z + 1).expand(MOB_SEARCH_RANGE, MOB_SEARCH_RANGE, MOB_SEARCH_RANGE);
+			return world.getEntitiesWithinAABB(IMob.class, box).size() < Config.graveMobCap;
+		}
+
+		private static void trySpawn(World world, TileEntityGrave grave) {
+			if (!Config.spawnSkeletons || world.difficultySetting == EnumDifficulty.PEACEFUL) return;
+
+			final int x = grave.xCoord;
+			final int y = grave.yCoord;
+			final int z = grave.zCoord;
+
+			if (world.getClosestPlayer(x + 0.5, y + 0.5, z + 0.5, Config.gravePlayerRange) == null) return;
+			if (!isBelowMobCap(world, x, y, z)) return;
+
+			final EntityLiving living = world.rand.nextDouble() < 0.5? new EntitySkeleton(world) : new EntityBat(world);
+			living.setPositionAndRotation(x + 0.5, y + 0.5, z + 0.5, world.rand.nextFloat() * 360, 0);
+			if (living.getCanSpawnHere()) world.spawnEntityInWorld(living);
+		}
+
+		private static boolean isLoaded(World world, TileEntityGrave grave) {
+			// unloaded tiles are not invalidated, reloaded chunk has new instance
+			return !grave.isInvalid() &&
+					world.blockExists(grave.xCoord, grave.yCoord, grave.zCoord) &&
+					world.getTileEntity(grave.xCoord, grave.yCoord, grave.zCoord) == grave;
+		}
+
+		public void update(World world) {
+			final long now = world.getTotalWorldTime();
+
+			ScheduledGrave next;
+			while ((next = queue.peek()) != null && next.spawnTime <= now) {
+				queue.poll();
+
+				final TileEntityGrave grave = next.grave;
+				if (!isLoaded(world, grave)) {
+					graves.remove(grave);
+					continue;
+				}
+
+				trySpawn(world, grave);
+
+				next.spawnTime = now + nextSpawnDelay(world.rand);
+				queue.add(next);
+			}
+		}
+	}
+
+	private static long nextSpawnDelay(Random random) {
+		final double chance = Config.skeletonSpawnRate;
+		if (chance >= 1) return 1;
+		// check again later, in case config changes
+		if (chance <= 0) return 20 * 60;
+
+		// time to first success of per-tick roll, as continuous distribution
+		final double rate = -Math.log(1 - chance);
+		final double delay = -Math.log(1 - random.nextDouble()) / rate;
+		return Math.max(1, (long)Math.ceil(Math.min(delay, Integer.MAX_VALUE)));
+	}
+
+	public static final GraveSpawnScheduler instance = new GraveSpawnScheduler();
+
+	private final Map<World, WorldScheduler> schedulers = new MapMaker().weakKeys().makeMap();
+
+	private GraveSpawnScheduler() {}
+
+	public void registerGrave(TileEntityGrave grave) {
+		final World world = grave.getWorldObj();
+		if (world == null || world.isRemote) return;
+
+		WorldScheduler scheduler = schedulers.get(world);
+		if (scheduler == null) {
+			scheduler = new WorldScheduler();
+			schedulers.put(world, scheduler);
+		}
+
+		scheduler.add(grave, world.getTotalWorldTime(), world.rand);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		schedulers.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+
+		final WorldScheduler scheduler = schedulers.get(evt.world);
+		if (scheduler != null) scheduler.update(evt.world);
+	}
+}
@@ -0,0 +1,147 @@
+package openblocks.common;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.AxisAlignedBB;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import openmods.OpenMods;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Heals players standing on heal blocks.
+ * Instead of every block searching for players above it, every player is checked once per interval against registered block positions, so player on large pad is healed once and blocks without players cost nothing.
+ */
+public class HealAuraManager {
+
+	private static final int HEAL_INTERVAL = 20;
+
+	// heal block affects two blocks above its bottom
+	private static final int AURA_HEIGHT = 2;
+
+	private static long chunkKey(int chunkX, int chunkZ) {
+		return ((long)chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	private static long blockKey(int x, int y, int z) {
+		return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFF);
+	}
+
+	private static class WorldAura {
+		private final Set<Long> blocks = Sets.newHashSet();
+
+		// number of heal blocks per chunk, for rejecting players far from any block
+		private final Map<Long, Integer> chunks = Maps.newHashMap();
+
+		public void add(int x, int y, int z) {
+			if (!blocks.add(blockKey(x, y, z))) return;
+
+			final Long chunk = chunkKey(x >> 4, z >> 4);
+			final Integer count = chunks.get(chunk);
+			chunks.put(chunk, count != null? count + 1 : 1);
+		}
+
+		public void remove(int x, int y, int z) {
+			if (!blocks.remove(blockKey(x, y, z))) return;
+
+			final Long chunk = chunkKey(x >> 4, z >> 4);
+			final Integer count = chunks.get(chunk);
+			if (count == null || count <= 1) chunks.remove(chunk);
+			else chunks.put(chunk, count - 1);
+		}
+
+		public boolean isEmpty() {
+			return blocks.isEmpty();
+		}
+
+		private boolean isInAura(AxisAlignedBB bb) {
+			// same cells as (x, y, z) - (x + 1, y + 2, z + 1) boxes intersecting player box
+			final int minX = MathHelper.floor_double(bb.minX);
+			final int maxX = MathHelper.ceiling_double_int(bb.maxX) - 1;
+			final int minZ = MathHelper.floor_double(bb.minZ);
+			final int maxZ = MathHelper.ceiling_double_int(bb.maxZ) - 1;
+			final int minY = MathHelper.floor_double(bb.minY) - AURA_HEIGHT + 1;
+			final int maxY = MathHelper.ceiling_double_int(bb.maxY) - 1;
+
+			boolean nearAny = false;
+			for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++)
+				for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++)
+					nearAny |= chunks.containsKey(chunkKey(chunkX, chunkZ));
+
+			if (!nearAny) return false;
+
+			for (int x = minX; x <= maxX; x++)
+				for (int z = minZ; z <= maxZ; z++)
+					for (int y = minY; y <= maxY; y++)
+						if (blocks.contains(blockKey(x, y, z))) return true;
+
+			return false;
+		}
+
+		@SuppressWarnings("unchecked")
+		public void update(World world) {
+			for (EntityPlayer player : (List<EntityPlayer>)world.playerEntities) {
+				if (player.isDead || player.capabilities.isCreativeMode || !isInAura(player.boundingBox)) continue;
+
+				/*
+				 * Same as single tick of old 1 tick long regeneration and
+				 * saturation effects, but without adding and removing effects
+				 * (and sending packets for them). Effects that player already
+				 * has are not touched.
+				 */
+				player.heal(1.0F);
+				player.getFoodStats().addStats(1, 1.0F);
+			}
+		}
+	}
+
+	public static final HealAuraManager instance = new HealAuraManager();
+
+	private final Map<World, WorldAura> auras = new MapMaker().weakKeys().makeMap();
+
+	private HealAuraManager() {}
+
+	public void addBlock(World world, int x, int y, int z) {
+		if (world.isRemote) return;
+
+		WorldAura aura = auras.get(world);
+		if (aura == null) {
+			aura = new WorldAura();
+			auras.put(world, aura);
+		}
+
+		aura.add(x, y, z);
+	}
+
+	public void removeBlock(World world, int x, int y, int z) {
+		if (world.isRemote) return;
+
+		final WorldAura aura = auras.get(world);
+		if (aura != null) aura.remove(x, y, z);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		auras.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+		if (OpenMods.proxy.getTicks(evt.world) % HEAL_INTERVAL != 0) return;
+
+		final WorldAura aura = auras.get(evt.world);
+		if (aura != null && !aura.isEmpty()) aura.update(evt.world);
+	}
+}
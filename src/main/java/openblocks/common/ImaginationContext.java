@@ -0,0 +1,90 @@
+package openblocks.common;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import net.minecraftforge.common.IExtendedEntityProperties;
+import openblocks.common.item.ItemImaginationGlasses;
+import openblocks.common.tileentity.TileEntityImaginary;
+import openblocks.common.tileentity.TileEntityImaginary.Property;
+
+/**
+ * What player sees through currently worn glasses. Glasses type and color are read only when helmet stack changes, so imaginary block queries don't touch item NBT.
+ */
+public class ImaginationContext implements IExtendedEntityProperties {
+
+	public static final String PROPERTY_NAME = "OpenBlocksImagination";
+
+	private static final int HELMET_SLOT = 3;
+
+	private ItemStack helmet;
+
+	private ItemImaginationGlasses.Type type;
+
+	private int color;
+
+	@Override
+	public void init(Entity entity, World world) {}
+
+	@Override
+	public void saveNBTData(NBTTagCompound tag) {}
+
+	@Override
+	public void loadNBTData(NBTTagCompound tag) {}
+
+	private void update(EntityPlayer player) {
+		// slot updates always replace stack, so comparing references is enough
+		final ItemStack current = player.inventory.armorInventory[HELMET_SLOT];
+		if (current == helmet) return;
+		helmet = current;
+
+		final Item item = current != null? current.getItem() : null;
+		if (item instanceof ItemImaginationGlasses) {
+			type = ((ItemImaginationGlasses)item).type;
+			color = ItemImaginationGlasses.getGlassesColor(current);
+		} else {
+			type = null;
+			color = 0;
+		}
+	}
+
+	public ItemImaginationGlasses.Type getType() {
+		return type;
+	}
+
+	public int getColor() {
+		return color;
+	}
+
+	public boolean is(Property what, TileEntityImaginary te) {
+		return is(what, te.color, te.isInverted());
+	}
+
+	/**
+	 * @param blockColor
+	 *            color of crayon block or null for pencil
+	 */
+	public boolean is(Property what, Integer blockColor, boolean isInverted) {
+		if (what == Property.SOLID && blockColor == null) return true;
+		if (type == null) return isInverted;
+		return type.checkBlock(what, color, blockColor, isInverted);
+	}
+
+	public static ImaginationContext get(EntityPlayer player) {
+		final IExtendedEntityProperties prop = player.getExtendedProperties(PROPERTY_NAME);
+
+		final ImaginationContext context;
+		if (prop instanceof ImaginationContext) {
+			context = (ImaginationContext)prop;
+		} else {
+			context = new ImaginationContext();
+			player.registerExtendedProperties(PROPERTY_NAME, context);
+		}
+
+		context.update(player);
+		return context;
+	}
+}
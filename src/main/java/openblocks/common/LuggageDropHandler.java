@@ -5,11 +5,12 @@ import net.minecraft.entity.item.EntityItem;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
 import net.minecraftforge.event.entity.item.ItemExpireEvent;
+import openblocks.common.EntityJoinDispatcher.IJoinListener;
 import openblocks.common.item.ItemLuggage;
 import openmods.utils.EntityUtils;
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
-public class LuggageDropHandler {
+public class LuggageDropHandler implements IJoinListener {
 
 	private static boolean shouldPreventDespawn(EntityItem entity) {
 		ItemStack stack = entity.getEntityItem();
@@ -18,8 +19,8 @@ public class LuggageDropHandler {
 		return stack.getItem() instanceof ItemLuggage && stack.hasTagCompound();
 	}
 
-	@SubscribeEvent
-	public void onItemDrop(EntityJoinWorldEvent evt) {
+	@Override
+	public void onEntityJoinWorld(EntityJoinWorldEvent evt) {
 		final Entity entity = evt.entity;
 		if (entity instanceof EntityItem && shouldPreventDespawn((EntityItem)entity)) {
 			EntityUtils.setEntityInvulnerable(entity, true);
@@ -0,0 +1,291 @@
+package openblocks.common;
+
+import java.util.List;
+
+import net.minecraft.inventory.IInventory;
+import net.minecraft.inventory.ISidedInventory;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.tileentity.TileEntityChest;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.IFluidHandler;
+import net.minecraftforge.fluids.IFluidTank;
+import openmods.inventory.legacy.ItemDistribution;
+import openmods.utils.InventoryUtils;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Neighbours of tile entity, resolved once and kept until {@link #invalidate()} is called (usually from neighbour change callback).
+ * Sides that had nothing to give or had no space left are skipped for few ticks, since neighbour inventories and tanks don't report their changes (items and fluids are tracked separately).
+ * Chests are merged with their partners on every access, since partner is not our neighbour and we get no notification when it changes.
+ */
+public class NeighbourCache {
+
+	public static final List<ForgeDirection> ALL_SIDES = ImmutableList.copyOf(ForgeDirection.VALID_DIRECTIONS);
+
+	private static final int HINT_TICKS = 10;
+
+	private static final int SIDES = ForgeDirection.VALID_DIRECTIONS.length;
+
+	private final TileEntity owner;
+
+	private int resolved;
+
+	private final TileEntity[] tiles = new TileEntity[SIDES];
+
+	private final IInventory[] inventories = new IInventory[SIDES];
+
+	private final long[] emptyUntil = new long[SIDES];
+
+	private final long[] fullUntil = new long[SIDES];
+
+	private final long[] fluidEmptyUntil = new long[SIDES];
+
+	private final long[] fluidFullUntil = new long[SIDES];
+
+	public NeighbourCache(TileEntity owner) {
+		this.owner = owner;
+	}
+
+	public void invalidate() {
+		resolved = 0;
+		for (int i = 0; i < SIDES; i++) {
+			tiles[i] = null;
+			inventories[i] = null;
+			emptyUntil[i] = 0;
+			fullUntil[i] = 0;
+			fluidEmptyUntil[i] = 0;
+			fluidFullUntil[i] = 0;
+		}
+	}
+
+	private void resolve(ForgeDirection dir) {
+		final int side = dir.ordinal();
+		final World world = owner.getWorldObj();
+		final int x = owner.xCoord + dir.offsetX;
+		final int y = owner.yCoord + dir.offsetY;
+		final int z = owner.zCoord + dir.offsetZ;
+
+		if (world.blockExists(x, y, z)) {
+			tiles[side] = world.getTileEntity(x, y, z);
+			inventories[side] = (tiles[side] != null && !(tiles[side] instanceof TileEntityChest))? InventoryUtils.getInventory(world, owner.xCoord, owner.yCoord, owner.zCoord, dir) : null;
+			resolved |= 1 << side;
+		} else {
+			tiles[side] = null;
+			inventories[side] = null;
+		}
+	}
+
+	private boolean isStale(ForgeDirection dir) {
+		final int side = dir.ordinal();
+		if ((resolved & (1 << side)) == 0) return true;
+
+		final TileEntity te = tiles[side];
+		if (te == null) return false;
+		if (te.isInvalid()) return true;
+
+		// unloaded tiles are not invalidated, but chunk lookup is only needed when neighbour is in other chunk
+		final int x = owner.xCoord + dir.offsetX;
+		final int z = owner.zCoord + dir.offsetZ;
+		return ((x >> 4) != (owner.xCoord >> 4) || (z >> 4) != (owner.zCoord >> 4)) &&
+				!owner.getWorldObj().blockExists(x, owner.yCoord + dir.offsetY, z);
+	}
+
+	public TileEntity getTile(ForgeDirection dir) {
+		if (isStale(dir)) resolve(dir);
+		return tiles[dir.ordinal()];
+	}
+
+	public IInventory getInventory(ForgeDirection dir) {
+		if (isStale(dir)) resolve(dir);
+
+		// merges double chests
+		if (tiles[dir.ordinal()] instanceof TileEntityChest) return InventoryUtils.getInventory(owner.getWorldObj(), owner.xCoord, owner.yCoord, owner.zCoord, dir);
+		return inventories[dir.ordinal()];
+	}
+
+	public IFluidHandler getFluidHandler(ForgeDirection dir) {
+		final TileEntity te = getTile(dir);
+		return (te instanceof IFluidHandler)? (IFluidHandler)te : null;
+	}
+
+	private long now() {
+		return owner.getWorldObj().getTotalWorldTime();
+	}
+
+	private boolean isHintActive(long[] hints, ForgeDirection dir) {
+		return hints[dir.ordinal()] > now();
+	}
+
+	private void setHint(long[] hints, ForgeDirection dir) {
+		hints[dir.ordinal()] = now() + HINT_TICKS;
+	}
+
+	/**
+	 * @return true if there were recently no items to take from that side
+	 */
+	public boolean isKnownEmpty(ForgeDirection dir) {
+		return isHintActive(emptyUntil, dir);
+	}
+
+	public void markEmpty(ForgeDirection dir) {
+		setHint(emptyUntil, dir);
+	}
+
+	/**
+	 * @return true if there was recently no space for items on that side
+	 */
+	public boolean isKnownFull(ForgeDirection dir) {
+		return isHintActive(fullUntil, dir);
+	}
+
+	public void markFull(ForgeDirection dir) {
+		setHint(fullUntil, dir);
+	}
+
+	private static int insertIntoSlot(IInventory target, int slot, ItemStack stack, int maxAmount) {
+		if (!target.isItemValidForSlot(slot, stack)) return 0;
+
+		final ItemStack current = target.getStackInSlot(slot);
+		final int limit = Math.min(target.getInventoryStackLimit(), stack.getMaxStackSize());
+
+		final int space;
+		if (current == null) space = limit;
+		else if (InventoryUtils.areItemAndTagEqual(current, stack)) space = limit - current.stackSize;
+		else return 0;
+
+		final int amount = Math.min(space, Math.min(maxAmount, stack.stackSize));
+		if (amount <= 0) return 0;
+
+		if (current == null) {
+			final ItemStack inserted = stack.copy();
+			inserted.stackSize = amount;
+			target.setInventorySlotContents(slot, inserted);
+		} else {
+			current.stackSize += amount;
+			target.setInventorySlotContents(slot, current);
+		}
+
+		return amount;
+	}
+
+	private static int pullFromInventory(IInventory source, ForgeDirection dir, IInventory target, int targetSlot, ItemStack filter, int maxAmount) {
+		final int accessSide = dir.getOpposite().ordinal();
+		final ISidedInventory sided = (source instanceof ISidedInventory)? (ISidedInventory)source : null;
+		final int[] slots = sided != null? sided.getAccessibleSlotsFromSide(accessSide) : null;
+		final int count = slots != null? slots.length : source.getSizeInventory();
+
+		for (int i = 0; i < count; i++) {
+			final int slot = slots != null? slots[i] : i;
+			final ItemStack stack = source.getStackInSlot(slot);
+			if (stack == null || stack.stackSize <= 0) continue;
+			if (filter != null && !stack.isItemEqual(filter)) continue;
+			if (sided != null && !sided.canExtractItem(slot, stack, accessSide)) continue;
+
+			final int moved = insertIntoSlot(target, targetSlot, stack, maxAmount);
+			if (moved > 0) {
+				source.decrStackSize(slot, moved);
+				return moved;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Moves items from first neighbour that has them into single slot of target
+	 *
+	 * @param filter
+	 *            only items equal to this one are moved, or any if null
+	 * @return number of moved items
+	 */
+	public int pullItems(IInventory target, int targetSlot, ItemStack filter, int maxAmount, Iterable<ForgeDirection> sides) {
+		for (ForgeDirection dir : sides) {
+			if (isKnownEmpty(dir)) continue;
+
+			final IInventory source = getInventory(dir);
+			if (source == null) continue;
+
+			final int moved = pullFromInventory(source, dir, target, targetSlot, filter, maxAmount);
+			if (moved > 0) return moved;
+			markEmpty(dir);
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Moves items from single slot of source to first neighbour that accepts them
+	 *
+	 * @return number of moved items
+	 */
+	public int pushItems(IInventory source, int slot, int maxAmount, Iterable<ForgeDirection> sides) {
+		for (ForgeDirection dir : sides) {
+			if (isKnownFull(dir)) continue;
+
+			final TileEntity target = getTile(dir);
+			if (target == null) continue;
+
+			final int moved = ItemDistribution.moveItemInto(source, slot, target, dir, maxAmount, true);
+			if (moved > 0) return moved;
+			markFull(dir);
+		}
+
+		return 0;
+	}
+
+	/**
+	 * @return amount of fluid moved into tank
+	 */
+	public int pullFluid(IFluidTank tank, int maxAmount, Iterable<ForgeDirection> sides) {
+		int total = 0;
+		for (ForgeDirection dir : sides) {
+			if (total >= maxAmount || tank.getFluidAmount() >= tank.getCapacity()) break;
+			if (isHintActive(fluidEmptyUntil, dir)) continue;
+
+			final IFluidHandler source = getFluidHandler(dir);
+			if (source == null) continue;
+
+			final ForgeDirection from = dir.getOpposite();
+			final FluidStack available = source.drain(from, maxAmount - total, false);
+			final int accepted = available != null? tank.fill(available, false) : 0;
+			if (accepted <= 0) {
+				setHint(fluidEmptyUntil, dir);
+				continue;
+			}
+
+			final FluidStack drained = source.drain(from, new FluidStack(available, accepted), true);
+			if (drained != null) total += tank.fill(drained, true);
+		}
+
+		return total;
+	}
+
+	/**
+	 * @return amount of fluid moved out of tank
+	 */
+	public int pushFluid(IFluidTank tank, int maxAmount, Iterable<ForgeDirection> sides) {
+		int total = 0;
+		for (ForgeDirection dir : sides) {
+			if (total >= maxAmount) break;
+			if (isHintActive(fluidFullUntil, dir)) continue;
+
+			final IFluidHandler target = getFluidHandler(dir);
+			if (target == null) continue;
+
+			final FluidStack available = tank.drain(maxAmount - total, false);
+			if (available == null || available.amount <= 0) break;
+
+			final int filled = target.fill(dir.getOpposite(), available, true);
+			if (filled > 0) {
+				tank.drain(filled, true);
+				total += filled;
+			} else setHint(fluidFullUntil, dir);
+		}
+
+		return total;
+	}
+}
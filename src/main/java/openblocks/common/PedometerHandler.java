@@ -11,30 +11,39 @@ public class PedometerHandler {
 
 	private static final String PROPERTY_PEDOMETER = "Pedometer";
 
-	public static Vec3 getEntityPosition(Entity entity) {
-		return Vec3.createVectorHelper(entity.posX, entity.posY, entity.posZ);
-	}
+	public static class PedometerState implements IExtendedEntityProperties {
+		// 30 seconds, enough for rolling speed
+		private static final int SAMPLE_COUNT = 20 * 30;
 
-	public static Vec3 subtract(Vec3 a, Vec3 b) {
-		return Vec3.createVectorHelper(a.xCoord - b.xCoord, a.yCoord - b.yCoord, a.zCoord - b.zCoord);
-	}
+		public static final int ROLLING_WINDOW = 20 * 10;
 
-	public static class PedometerState implements IExtendedEntityProperties {
 		private double totalDistance;
 
-		private long startTicks;
+		private double verticalDistance;
 
-		private Vec3 startPos;
+		private double peakSpeed;
 
-		private Vec3 prevTickPos;
+		private double currentSpeed;
 
-		private long prevTickTime;
+		private long startTicks;
 
-		private Vec3 lastCheckPos;
+		private double startX, startY, startZ;
+
+		private double lastCheckX, lastCheckY, lastCheckZ;
 
 		private long lastCheckTime;
 
-		private PedometerData lastResult;
+		// ring buffer of samples, index of last written one in head
+		private final double[] sampleX = new double[SAMPLE_COUNT];
+		private final double[] sampleY = new double[SAMPLE_COUNT];
+		private final double[] sampleZ = new double[SAMPLE_COUNT];
+		private final long[] sampleTime = new long[SAMPLE_COUNT];
+		// distance from previous sample
+		private final double[] sampleStep = new double[SAMPLE_COUNT];
+
+		private int head;
+
+		private int sampleCount;
 
 		private boolean isRunning;
 
@@ -47,59 +56,104 @@ public class PedometerHandler {
 		public void reset() {
 			isRunning = false;
 			totalDistance = 0;
-			lastResult = null;
-
-			lastCheckPos = null;
+			verticalDistance = 0;
+			peakSpeed = 0;
+			currentSpeed = 0;
 			lastCheckTime = 0;
+			head = 0;
+			sampleCount = 0;
+		}
 
-			prevTickPos = null;
-			prevTickTime = 0;
+		private void addSample(double x, double y, double z, long time, double step) {
+			head = (head + 1) % SAMPLE_COUNT;
+			sampleX[head] = x;
+			sampleY[head] = y;
+			sampleZ[head] = z;
+			sampleTime[head] = time;
+			sampleStep[head] = step;
+			if (sampleCount < SAMPLE_COUNT) sampleCount++;
 		}
 
 		@Override
 		public void init(Entity entity, World world) {
-			lastCheckPos = prevTickPos = startPos = getEntityPosition(entity);
-			lastCheckTime = prevTickTime = startTicks = OpenMods.proxy.getTicks(world);
+			reset();
+			lastCheckX = startX = entity.posX;
+			lastCheckY = startY = entity.posY;
+			lastCheckZ = startZ = entity.posZ;
+			lastCheckTime = startTicks = OpenMods.proxy.getTicks(world);
+			addSample(startX, startY, startZ, startTicks, 0);
 			isRunning = true;
 		}
 
 		public void update(Entity entity) {
-			Vec3 currentPosition = getEntityPosition(entity);
-			Vec3 deltaSinceLastUpdate = subtract(currentPosition, prevTickPos);
-			prevTickPos = currentPosition;
-
-			long currentTime = OpenMods.proxy.getTicks(entity.worldObj);
-			double ticksSinceLastUpdate = currentTime - prevTickTime;
-			prevTickTime = currentTime;
-
-			double distanceSinceLastTick = deltaSinceLastUpdate.lengthVector();
-			double currentSpeed = ticksSinceLastUpdate != 0? distanceSinceLastTick / ticksSinceLastUpdate : 0;
+			final long currentTime = OpenMods.proxy.getTicks(entity.worldObj);
+			final long ticksSinceLastUpdate = currentTime - sampleTime[head];
+			// called for every pedometer in hotbar
+			if (ticksSinceLastUpdate <= 0) return;
+
+			final double dx = entity.posX - sampleX[head];
+			final double dy = entity.posY - sampleY[head];
+			final double dz = entity.posZ - sampleZ[head];
+			final double distanceSinceLastTick = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+			currentSpeed = distanceSinceLastTick / ticksSinceLastUpdate;
+			if (currentSpeed > peakSpeed) peakSpeed = currentSpeed;
 			totalDistance += distanceSinceLastTick;
+			verticalDistance += Math.abs(dy);
 
-			Vec3 deltaFromStart = subtract(currentPosition, startPos);
-			long ticksFromStart = currentTime - startTicks;
-
-			double distanceFromStart = deltaFromStart.lengthVector();
-
-			double distanceFromLastCheck = 0;
-			if (lastCheckPos != null) distanceFromLastCheck = subtract(currentPosition, lastCheckPos).lengthVector();
-
-			long timeFromLastCheck = currentTime - lastCheckTime;
-
-			lastResult = new PedometerData(startPos, ticksFromStart, totalDistance, distanceFromStart, distanceFromLastCheck, timeFromLastCheck, currentSpeed);
+			addSample(entity.posX, entity.posY, entity.posZ, currentTime, distanceSinceLastTick);
 		}
 
 		public boolean isRunning() {
 			return isRunning;
 		}
 
+		private double rollingSpeed(long currentTime) {
+			double distance = 0;
+			long oldestTime = currentTime;
+			for (int i = 0, index = head; i < sampleCount - 1; i++) {
+				if (currentTime - sampleTime[index] >= ROLLING_WINDOW) break;
+				distance += sampleStep[index];
+				index = (index + SAMPLE_COUNT - 1) % SAMPLE_COUNT;
+				oldestTime = sampleTime[index];
+			}
+
+			final long time = currentTime - oldestTime;
+			return time > 0? distance / time : 0;
+		}
+
 		public PedometerData getData() {
-			lastCheckPos = prevTickPos;
-			lastCheckTime = prevTickTime;
-			return lastResult;
+			if (!isRunning) return null;
+
+			final double x = sampleX[head];
+			final double y = sampleY[head];
+			final double z = sampleZ[head];
+			final long currentTime = sampleTime[head];
+
+			final PedometerData result = new PedometerData(
+					Vec3.createVectorHelper(startX, startY, startZ),
+					currentTime - startTicks,
+					totalDistance,
+					distance(x - startX, y - startY, z - startZ),
+					distance(x - lastCheckX, y - lastCheckY, z - lastCheckZ),
+					currentTime - lastCheckTime,
+					currentSpeed,
+					rollingSpeed(currentTime),
+					peakSpeed,
+					verticalDistance);
+
+			lastCheckX = x;
+			lastCheckY = y;
+			lastCheckZ = z;
+			lastCheckTime = currentTime;
+			return result;
 		}
 	}
 
+	private static double distance(double dx, double dy, double dz) {
+		return Math.sqrt(dx * dx + dy * dy + dz * dz);
+	}
+
 	public static class PedometerData {
 		public final Vec3 startingPoint;
 		public final long totalTime;
@@ -109,6 +163,9 @@ public class PedometerHandler {
 		public final long lastCheckTime;
 
 		public final double currentSpeed;
+		public final double rollingSpeed;
+		public final double peakSpeed;
+		public final double verticalDistance;
 
 		private PedometerData(Vec3 startingPoint,
 				long totalTime,
@@ -116,7 +173,10 @@ public class PedometerHandler {
 				double straightLineDistance,
 				double lastCheckDistance,
 				long lastCheckTime,
-				double currentSpeed) {
+				double currentSpeed,
+				double rollingSpeed,
+				double peakSpeed,
+				double verticalDistance) {
 			this.startingPoint = startingPoint;
 			this.totalTime = totalTime;
 			this.totalDistance = totalDistance;
@@ -124,6 +184,9 @@ public class PedometerHandler {
 			this.lastCheckDistance = lastCheckDistance;
 			this.lastCheckTime = lastCheckTime;
 			this.currentSpeed = currentSpeed;
+			this.rollingSpeed = rollingSpeed;
+			this.peakSpeed = peakSpeed;
+			this.verticalDistance = verticalDistance;
 		}
 
 		public double averageSpeed() {
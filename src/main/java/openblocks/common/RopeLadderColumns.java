@@ -0,0 +1,235 @@
+package openblocks.common;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.init.Blocks;
+import net.minecraft.item.ItemStack;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.event.world.WorldEvent;
+import openblocks.Config;
+import openmods.block.OpenBlock;
+import openmods.utils.BlockNotifyFlags;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Extends and retracts rope ladders column by column, at most {@link Config#ropeLadderBlocksPerTick} blocks per tick.
+ * Blocks are changed without neighbour updates, so clients get batched section updates instead of separate block changes, and only column ends notify neighbours.
+ */
+public class RopeLadderColumns {
+
+	private abstract static class ColumnOperation {
+		protected final Block block;
+		protected final int x;
+		protected final int z;
+		protected int y;
+
+		public ColumnOperation(Block block, int x, int y, int z) {
+			this.block = block;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+		}
+
+		/**
+		 * @return number of changed blocks, or -1 when operation is finished
+		 */
+		public abstract int update(World world, int budget);
+	}
+
+	private static class Deployment extends ColumnOperation {
+		private final OpenBlock ladder;
+		private final int meta;
+		private final ForgeDirection side;
+		private final int topY;
+		private final boolean refund;
+		private int remaining;
+
+		public Deployment(OpenBlock block, int x, int y, int z, int meta, ForgeDirection side, int count, boolean refund) {
+			super(block, x, y - 1, z);
+			this.ladder = block;
+			this.meta = meta;
+			this.side = side;
+			this.topY = y;
+			this.remaining = count;
+			this.refund = refund;
+		}
+
+		private boolean canPlace(World world) {
+			return y > 0 &&
+					world.blockExists(x, y, z) &&
+					world.getBlock(x, y + 1, z) == block &&
+					world.isAirBlock(x, y, z) &&
+					ladder.canPlaceBlockOnSide(world, x, y, z, side);
+		}
+
+		private void finish(World world) {
+			world.notifyBlocksOfNeighborChange(x, y + 1, z, block);
+
+			// column was blocked or broken while extending, so reserved ladders are returned at anchor
+			if (refund && remaining > 0) {
+				EntityItem item = new EntityItem(world, x + 0.5, topY + 0.5, z + 0.5, new ItemStack(block, remaining));
+				world.spawnEntityInWorld(item);
+			}
+		}
+
+		@Override
+		public int update(World world, int budget) {
+			int placed = 0;
+			while (placed < budget) {
+				if (remaining <= 0 || !canPlace(world)) {
+					finish(world);
+					return -1;
+				}
+
+				world.setBlock(x, y, z, block, meta, BlockNotifyFlags.SEND_TO_CLIENTS);
+				remaining--;
+				placed++;
+				y--;
+			}
+
+			return placed;
+		}
+	}
+
+	private class Retraction extends ColumnOperation {
+		public Retraction(Block block, int x, int y, int z) {
+			super(block, x, y, z);
+		}
+
+		@Override
+		public int update(World world, int budget) {
+			int removed = 0;
+			while (removed < budget) {
+				if (y <= 0 || !world.blockExists(x, y, z) || world.getBlock(x, y, z) != block) {
+					world.notifyBlocksOfNeighborChange(x, y + 1, z, block);
+					return -1;
+				}
+
+				isRetracting = true;
+				try {
+					world.setBlock(x, y, z, Blocks.air, 0, BlockNotifyFlags.SEND_TO_CLIENTS);
+				} finally {
+					isRetracting = false;
+				}
+
+				removed++;
+				y--;
+			}
+
+			return removed;
+		}
+	}
+
+	private static class WorldColumns {
+		private final List<ColumnOperation> operations = Lists.newArrayList();
+
+		// operations started while queue is updated
+		private final List<ColumnOperation> added = Lists.newArrayList();
+
+		private boolean isUpdating;
+
+		public void add(ColumnOperation operation) {
+			if (isUpdating) added.add(operation);
+			else operations.add(operation);
+		}
+
+		public void update(World world) {
+			// at least one block, so columns can't get stuck with bad config
+			int budget = Math.max(1, Config.ropeLadderBlocksPerTick);
+
+			isUpdating = true;
+			try {
+				final Iterator<ColumnOperation> it = operations.iterator();
+				while (budget > 0 && it.hasNext()) {
+					final int changed = it.next().update(world, budget);
+					if (changed < 0) it.remove();
+					else budget -= changed;
+				}
+			} finally {
+				isUpdating = false;
+			}
+
+			operations.addAll(added);
+			added.clear();
+		}
+
+		public boolean isEmpty() {
+			return operations.isEmpty() && added.isEmpty();
+		}
+	}
+
+	public static final RopeLadderColumns instance = new RopeLadderColumns();
+
+	private final Map<World, WorldColumns> columns = new MapMaker().weakKeys().makeMap();
+
+	private boolean isRetracting;
+
+	private RopeLadderColumns() {}
+
+	private void add(World world, ColumnOperation operation) {
+		WorldColumns worldColumns = columns.get(world);
+		if (worldColumns == null) {
+			worldColumns = new WorldColumns();
+			columns.put(world, worldColumns);
+		}
+
+		worldColumns.add(operation);
+	}
+
+	/**
+	 * Counts blocks that can be placed below top ladder block, without changing anything
+	 */
+	public static int measureColumn(World world, OpenBlock block, int x, int y, int z, ForgeDirection side, int limit) {
+		int count = 0;
+		while (count < limit && --y > 0 &&
+				world.blockExists(x, y, z) &&
+				world.isAirBlock(x, y, z) &&
+				block.canPlaceBlockOnSide(world, x, y, z, side))
+			count++;
+
+		return count;
+	}
+
+	/**
+	 * @param count
+	 *            number of ladders already taken from player
+	 * @param refund
+	 *            should ladders that could not be placed be dropped
+	 */
+	public void deploy(World world, OpenBlock block, int x, int y, int z, int meta, ForgeDirection side, int count, boolean refund) {
+		if (world.isRemote || count <= 0) return;
+		add(world, new Deployment(block, x, y, z, meta, side, count, refund));
+	}
+
+	/**
+	 * Removes ladder blocks starting from given position, going down
+	 */
+	public void retract(World world, Block block, int x, int y, int z) {
+		if (world.isRemote || isRetracting || y <= 0) return;
+		add(world, new Retraction(block, x, y, z));
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		columns.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+
+		final WorldColumns worldColumns = columns.get(evt.world);
+		if (worldColumns != null && !worldColumns.isEmpty()) worldColumns.update(evt.world);
+	}
+}
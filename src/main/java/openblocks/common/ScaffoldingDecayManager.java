@@ -0,0 +1,369 @@
+package openblocks.common;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.Set;
+
+import net.minecraft.block.Block;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.event.world.ChunkDataEvent;
+import net.minecraftforge.event.world.ChunkEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import openblocks.Config;
+import openblocks.OpenBlocks;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Queues;
+import com.google.common.collect.Sets;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Breaks scaffolding {@link Config#scaffoldingLifetime} ticks after it was placed.
+ * Placement times are kept per chunk (and saved with it), chunks are queued by their earliest expiry, so nothing is done until some block actually expires.
+ */
+public class ScaffoldingDecayManager {
+
+	private static final String TAG_NAME = "OpenBlocksScaffolding";
+
+	private static final String TAG_POSITIONS = "Positions";
+
+	private static final String TAG_REMAINING = "Remaining";
+
+	private static final int MAX_STRUCTURE_SIZE = 4096;
+
+	private static long chunkKey(int chunkX, int chunkZ) {
+		return ((long)chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	private static int localIndex(int x, int y, int z) {
+		return (x & 15) | ((z & 15) << 4) | ((y & 255) << 8);
+	}
+
+	private static long packPosition(int x, int y, int z) {
+		return ((x & 0x3FFFFFFL) << 38) | ((z & 0x3FFFFFFL) << 12) | (y & 0xFFF);
+	}
+
+	private static class ChunkDecay implements Comparable<ChunkDecay> {
+		public final int chunkX;
+		public final int chunkZ;
+
+		// local block indices, sorted by expiry time
+		private short[] positions = new short[8];
+		private long[] times = new long[8];
+		private int size;
+
+		public ChunkDecay(int chunkX, int chunkZ) {
+			this.chunkX = chunkX;
+			this.chunkZ = chunkZ;
+		}
+
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		public long nextTime() {
+			return times[0];
+		}
+
+		public int indexOf(int position) {
+			for (int i = 0; i < size; i++)
+				if ((positions[i] & 0xFFFF) == position) return i;
+
+			return -1;
+		}
+
+		public void add(int position, long time) {
+			if (size == positions.length) {
+				positions = Arrays.copyOf(positions, size * 2);
+				times = Arrays.copyOf(times, size * 2);
+			}
+
+			// lifetime is usually same for all blocks, so new ones mostly go to the end
+			int i = size;
+			while (i > 0 && times[i - 1] > time)
+				i--;
+
+			System.arraycopy(positions, i, positions, i + 1, size - i);
+			System.arraycopy(times, i, times, i + 1, size - i);
+			positions[i] = (short)position;
+			times[i] = time;
+			size++;
+		}
+
+		public int removeAt(int i) {
+			final int position = positions[i] & 0xFFFF;
+			size--;
+			System.arraycopy(positions, i + 1, positions, i, size - i);
+			System.arraycopy(times, i + 1, times, i, size - i);
+			return position;
+		}
+
+		public void readFromNBT(NBTTagCompound tag, long now) {
+			final int[] storedPositions = tag.getIntArray(TAG_POSITIONS);
+			final int[] storedRemaining = tag.getIntArray(TAG_REMAINING);
+			final int count = Math.min(storedPositions.length, storedRemaining.length);
+			for (int i = 0; i < count; i++)
+				add(storedPositions[i], now + storedRemaining[i]);
+		}
+
+		public void writeToNBT(NBTTagCompound tag, long now) {
+			final int[] storedPositions = new int[size];
+			final int[] storedRemaining = new int[size];
+			for (int i = 0; i < size; i++) {
+				storedPositions[i] = positions[i] & 0xFFFF;
+				storedRemaining[i] = (int)Math.max(0, times[i] - now);
+			}
+
+			tag.setIntArray(TAG_POSITIONS, storedPositions);
+			tag.setIntArray(TAG_REMAINING, storedRemaining);
+		}
+
+		@Override
+		public int compareTo(ChunkDecay o) {
+			final long a = nextTime();
+			final long b = o.nextTime();
+			return a < b? -1 : (a > b? 1 : 0);
+		}
+	}
+
+	private static class WorldDecay {
+		private final Map<Long, ChunkDecay> chunks = Maps.newHashMap();
+
+		// only loaded, non-empty chunks
+		private final PriorityQueue<ChunkDecay> expiries = new PriorityQueue<ChunkDecay>();
+
+		// blocks of decaying structures
+		private final Queue<Long> pending = Queues.newArrayDeque();
+
+		public ChunkDecay getChunk(int chunkX, int chunkZ, boolean create) {
+			final Long key = chunkKey(chunkX, chunkZ);
+			ChunkDecay chunk = chunks.get(key);
+			if (chunk == null && create) {
+				chunk = new ChunkDecay(chunkX, chunkZ);
+				chunks.put(key, chunk);
+			}
+			return chunk;
+		}
+
+		public void forgetChunk(int chunkX, int chunkZ) {
+			final ChunkDecay chunk = chunks.remove(chunkKey(chunkX, chunkZ));
+			if (chunk != null) expiries.remove(chunk);
+		}
+
+		public void add(int x, int y, int z, long time) {
+			final ChunkDecay chunk = getChunk(x >> 4, z >> 4, true);
+			final int position = localIndex(x, y, z);
+
+			expiries.remove(chunk);
+			final int existing = chunk.indexOf(position);
+			if (existing >= 0) chunk.removeAt(existing);
+			chunk.add(position, time);
+			expiries.add(chunk);
+		}
+
+		public void remove(int x, int y, int z) {
+			final ChunkDecay chunk = getChunk(x >> 4, z >> 4, false);
+			if (chunk == null) return;
+
+			final int i = chunk.indexOf(localIndex(x, y, z));
+			if (i < 0) return;
+
+			if (i == 0) {
+				// head changes, so chunk must be reordered
+				expiries.remove(chunk);
+				chunk.removeAt(i);
+				if (!chunk.isEmpty()) expiries.add(chunk);
+			} else chunk.removeAt(i);
+		}
+
+		public void addLoaded(ChunkDecay chunk) {
+			chunks.put(chunkKey(chunk.chunkX, chunk.chunkZ), chunk);
+			if (!chunk.isEmpty()) expiries.add(chunk);
+		}
+
+		public void stopChunk(int chunkX, int chunkZ) {
+			final ChunkDecay chunk = getChunk(chunkX, chunkZ, false);
+			if (chunk != null) expiries.remove(chunk);
+		}
+
+		private static boolean decay(World world, Block block, int x, int y, int z) {
+			if (!world.blockExists(x, y, z) || world.getBlock(x, y, z) != block) return false;
+
+			block.dropBlockAsItem(world, x, y, z, world.getBlockMetadata(x, y, z), 0);
+			world.setBlockToAir(x, y, z);
+			return true;
+		}
+
+		private void collectStructure(World world, Block block, int x, int y, int z) {
+			final Set<Long> visited = Sets.newHashSet();
+			final Queue<int[]> queue = Queues.newArrayDeque();
+
+			visited.add(packPosition(x, y, z));
+			queue.add(new int[] { x, y, z });
+
+			while (!queue.isEmpty() && visited.size() < MAX_STRUCTURE_SIZE) {
+				final int[] pos = queue.poll();
+				pending.add(packPosition(pos[0], pos[1], pos[2]));
+
+				for (int[] offset : NEIGHBOURS) {
+					final int nx = pos[0] + offset[0];
+					final int ny = pos[1] + offset[1];
+					final int nz = pos[2] + offset[2];
+					if (ny < 0 || ny > 255 || !world.blockExists(nx, ny, nz) || world.getBlock(nx, ny, nz) != block) continue;
+					if (visited.add(packPosition(nx, ny, nz))) queue.add(new int[] { nx, ny, nz });
+				}
+			}
+		}
+
+		public void update(World world, Block block) {
+			// at least one block, so expired scaffolding can't pile up with bad config
+			int budget = Math.max(1, Config.scaffoldingBlocksPerTick);
+
+			while (budget > 0 && !pending.isEmpty()) {
+				final long pos = pending.poll();
+				final int x = (int)(pos >> 38);
+				final int z = (int)((pos << 26) >> 38);
+				final int y = (int)(pos & 0xFFF);
+				if (decay(world, block, x, y, z)) budget--;
+			}
+
+			final long now = world.getTotalWorldTime();
+			while (budget > 0 && pending.isEmpty()) {
+				final ChunkDecay chunk = expiries.peek();
+				if (chunk == null || chunk.nextTime() > now) break;
+
+				expiries.poll();
+				final int position = chunk.removeAt(0);
+				if (!chunk.isEmpty()) expiries.add(chunk);
+
+				final int x = (chunk.chunkX << 4) | (position & 15);
+				final int z = (chunk.chunkZ << 4) | ((position >> 4) & 15);
+				final int y = position >> 8;
+
+				if (Config.scaffoldingDecayStructure) {
+					if (world.getBlock(x, y, z) == block) collectStructure(world, block, x, y, z);
+				} else if (decay(world, block, x, y, z)) budget--;
+			}
+		}
+
+		public boolean isIdle(long now) {
+			if (!pending.isEmpty()) return false;
+			final ChunkDecay chunk = expiries.peek();
+			return chunk == null || chunk.nextTime() > now;
+		}
+	}
+
+	private static final int[][] NEIGHBOURS = {
+			{ 0, -1, 0 }, { 0, 1, 0 }, { 0, 0, -1 }, { 0, 0, 1 }, { -1, 0, 0 }, { 1, 0, 0 }
+	};
+
+	public static final ScaffoldingDecayManager instance = new ScaffoldingDecayManager();
+
+	private final Map<World, WorldDecay> worlds = new MapMaker().weakKeys().makeMap();
+
+	private ScaffoldingDecayManager() {}
+
+	private WorldDecay getWorld(World world, boolean create) {
+		WorldDecay result = worlds.get(world);
+		if (result == null && create) {
+			result = new WorldDecay();
+			worlds.put(world, result);
+		}
+		return result;
+	}
+
+	public void onPlaced(World world, int x, int y, int z) {
+		if (world.isRemote) return;
+		getWorld(world, true).add(x, y, z, world.getTotalWorldTime() + Config.scaffoldingLifetime);
+	}
+
+	public void onRemoved(World world, int x, int y, int z) {
+		if (world.isRemote) return;
+		final WorldDecay decay = getWorld(world, false);
+		if (decay != null) decay.remove(x, y, z);
+	}
+
+	private static ChunkDecay scanChunk(Chunk chunk, Block block, long time) {
+		final ChunkDecay result = new ChunkDecay(chunk.xPosition, chunk.zPosition);
+		for (ExtendedBlockStorage storage : chunk.getBlockStorageArray()) {
+			if (storage == null || storage.isEmpty()) continue;
+
+			final int baseY = storage.getYLocation();
+			for (int y = 0; y < 16; y++)
+				for (int z = 0; z < 16; z++)
+					for (int x = 0; x < 16; x++)
+						if (storage.getBlockByExtId(x, y, z) == block) result.add(localIndex(x, baseY + y, z), time);
+		}
+
+		return result;
+	}
+
+	@SubscribeEvent
+	public void onChunkLoad(ChunkDataEvent.Load evt) {
+		final Chunk chunk = evt.getChunk();
+		final World world = chunk.worldObj;
+		if (world.isRemote) return;
+
+		final long now = world.getTotalWorldTime();
+		final NBTTagCompound data = evt.getData();
+
+		final ChunkDecay decay;
+		if (data.hasKey(TAG_NAME, Constants.NBT.TAG_COMPOUND)) {
+			decay = new ChunkDecay(chunk.xPosition, chunk.zPosition);
+			decay.readFromNBT(data.getCompoundTag(TAG_NAME), now);
+		} else {
+			// chunk saved before decay times were stored, so existing scaffolding starts its lifetime now
+			decay = scanChunk(chunk, OpenBlocks.Blocks.scaffolding, now + Config.scaffoldingLifetime);
+		}
+
+		if (!decay.isEmpty()) getWorld(world, true).addLoaded(decay);
+	}
+
+	@SubscribeEvent
+	public void onChunkSave(ChunkDataEvent.Save evt) {
+		final Chunk chunk = evt.getChunk();
+		final World world = chunk.worldObj;
+		if (world.isRemote) return;
+
+		final WorldDecay decay = getWorld(world, false);
+		final ChunkDecay chunkDecay = decay != null? decay.getChunk(chunk.xPosition, chunk.zPosition, false) : null;
+
+		// empty tag is still written, so chunk is not scanned on next load
+		final NBTTagCompound tag = new NBTTagCompound();
+		if (chunkDecay != null) chunkDecay.writeToNBT(tag, world.getTotalWorldTime());
+		evt.getData().setTag(TAG_NAME, tag);
+
+		// unload event is fired before final save
+		if (decay != null && !chunk.isChunkLoaded) decay.forgetChunk(chunk.xPosition, chunk.zPosition);
+	}
+
+	@SubscribeEvent
+	public void onChunkUnload(ChunkEvent.Unload evt) {
+		final Chunk chunk = evt.getChunk();
+		final WorldDecay decay = getWorld(chunk.worldObj, false);
+		if (decay != null) decay.stopChunk(chunk.xPosition, chunk.zPosition);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		worlds.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+
+		final WorldDecay decay = worlds.get(evt.world);
+		if (decay != null && !decay.isIdle(evt.world.getTotalWorldTime())) decay.update(evt.world, OpenBlocks.Blocks.scaffolding);
+	}
+}
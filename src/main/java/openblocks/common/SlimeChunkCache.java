@@ -0,0 +1,141 @@
+package openblocks.common;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import openblocks.Config;
+import openblocks.events.SlimeChunksEvent;
+import openmods.network.event.NetworkEventManager;
+
+import com.google.common.collect.MapMaker;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Shared slime chunk lookup. Results are computed in 8x8 chunk regions (one bit per chunk) and kept in bounded, per-world LRU maps.
+ */
+public class SlimeChunkCache {
+
+	private static final long SLIME_SEED = 987234911L;
+
+	private static final long RANDOM_MULTIPLIER = 0x5DEECE66DL;
+	private static final long RANDOM_ADDEND = 0xBL;
+	private static final long RANDOM_MASK = (1L << 48) - 1;
+
+	private static final int REGION_BITS = 3;
+	private static final int REGION_SIZE = 1 << REGION_BITS;
+	private static final int REGION_MASK = REGION_SIZE - 1;
+
+	private static final int MAX_CACHED_REGIONS = 1024;
+
+	private static class WorldCache {
+		private final long worldSeed;
+
+		private final Map<Long, Long> regions = new LinkedHashMap<Long, Long>(64, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+				return size() > MAX_CACHED_REGIONS;
+			}
+		};
+
+		public WorldCache(long worldSeed) {
+			this.worldSeed = worldSeed;
+		}
+
+		public boolean isSlimeChunk(int chunkX, int chunkZ) {
+			final int regionX = chunkX >> REGION_BITS;
+			final int regionZ = chunkZ >> REGION_BITS;
+			final Long key = regionKey(regionX, regionZ);
+
+			Long bits = regions.get(key);
+			if (bits == null) {
+				bits = computeRegion(regionX, regionZ);
+				regions.put(key, bits);
+			}
+
+			final int bit = ((chunkZ & REGION_MASK) << REGION_BITS) | (chunkX & REGION_MASK);
+			return (bits & (1L << bit)) != 0;
+		}
+
+		private long computeRegion(int regionX, int regionZ) {
+			final int baseX = regionX << REGION_BITS;
+			final int baseZ = regionZ << REGION_BITS;
+
+			long result = 0;
+			for (int dz = 0; dz < REGION_SIZE; dz++)
+				for (int dx = 0; dx < REGION_SIZE; dx++)
+					if (calculateSlimeChunk(worldSeed, baseX + dx, baseZ + dz)) result |= 1L << ((dz << REGION_BITS) | dx);
+
+			return result;
+		}
+	}
+
+	private static long regionKey(int regionX, int regionZ) {
+		return ((long)regionX << 32) | (regionZ & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Same as {@code chunk.getRandomWithSeed(987234911L).nextInt(10) == 0}, without allocating {@link java.util.Random}
+	 */
+	public static boolean calculateSlimeChunk(long worldSeed, int x, int z) {
+		// int overflow is intentional, it's what vanilla does
+		long seed = worldSeed + (x * x * 4987142) + (x * 5947611) + (z * z) * 4392871L + (z * 389711) ^ SLIME_SEED;
+		seed = (seed ^ RANDOM_MULTIPLIER) & RANDOM_MASK;
+
+		int bits;
+		int value;
+		do {
+			seed = (seed * RANDOM_MULTIPLIER + RANDOM_ADDEND) & RANDOM_MASK;
+			bits = (int)(seed >>> 17);
+			value = bits % 10;
+		} while (bits - value + 9 < 0);
+
+		return value == 0;
+	}
+
+	public static final SlimeChunkCache instance = new SlimeChunkCache();
+
+	private final Map<World, WorldCache> caches = new MapMaker().weakKeys().makeMap();
+
+	private SlimeChunkCache() {}
+
+	private WorldCache getCache(World world) {
+		WorldCache cache = caches.get(world);
+		if (cache == null || cache.worldSeed != world.getSeed()) {
+			cache = new WorldCache(world.getSeed());
+			caches.put(world, cache);
+		}
+
+		return cache;
+	}
+
+	public boolean isSlimeChunk(World world, int chunkX, int chunkZ) {
+		return getCache(world).isSlimeChunk(chunkX, chunkZ);
+	}
+
+	public void sendNearbySlimeChunks(EntityPlayer player) {
+		final World world = player.worldObj;
+		final int centerX = MathHelper.floor_double(player.posX) >> 4;
+		final int centerZ = MathHelper.floor_double(player.posZ) >> 4;
+		final int range = Math.max(0, Math.min(Config.slimalyzerOverlayRange, SlimeChunksEvent.MAX_RANGE));
+
+		final WorldCache cache = getCache(world);
+		final SlimeChunksEvent evt = new SlimeChunksEvent(centerX, centerZ);
+		for (int dz = -range; dz <= range; dz++)
+			for (int dx = -range; dx <= range; dx++)
+				if (cache.isSlimeChunk(centerX + dx, centerZ + dz)) evt.addChunk(dx, dz);
+
+		NetworkEventManager.INSTANCE.dispatcher().senders.player.sendMessage(evt, player);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		caches.remove(evt.world);
+	}
+}
@@ -0,0 +1,202 @@
+package openblocks.common;
+
+import java.util.Collection;
+import java.util.Map;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.ChunkPosition;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldSavedData;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.structure.MapGenStructureData;
+import net.minecraft.world.storage.MapStorage;
+import net.minecraftforge.event.world.WorldEvent;
+import openmods.Log;
+import openmods.world.StructureRegistry;
+
+import com.google.common.collect.HashMultimap;
+import com.google.common.collect.Maps;
+import com.google.common.collect.SetMultimap;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+
+/**
+ * Per-dimension index of known structure positions, used to answer golden eye queries without asking structure generators.
+ * Filled from vanilla structure data (on load and save) and from every {@link StructureRegistry} query that has to be done anyway.
+ */
+public class StructureLocationIndex extends WorldSavedData {
+
+	private static final String DATA_NAME = "OpenBlocksStructures";
+
+	private static final String[] VANILLA_STRUCTURES = { "Village", "Fortress", "Mineshaft", "Temple", "Stronghold" };
+
+	// 32x32 chunks
+	private static final int CELL_BITS = 9;
+	private static final int CELL_SIZE = 1 << CELL_BITS;
+
+	private static final int MAX_SEARCH_RADIUS = 8;
+
+	private static class StructureGrid {
+		private final SetMultimap<Long, ChunkPosition> cells = HashMultimap.create();
+
+		private static long cellKey(int cellX, int cellZ) {
+			return ((long)cellX << 32) | (cellZ & 0xFFFFFFFFL);
+		}
+
+		public boolean add(ChunkPosition pos) {
+			return cells.put(cellKey(pos.chunkPosX >> CELL_BITS, pos.chunkPosZ >> CELL_BITS), pos);
+		}
+
+		public ChunkPosition findNearest(int x, int z) {
+			final int cellX = x >> CELL_BITS;
+			final int cellZ = z >> CELL_BITS;
+
+			ChunkPosition result = null;
+			long bestDistSq = Long.MAX_VALUE;
+
+			for (int r = 0; r <= MAX_SEARCH_RADIUS; r++) {
+				// everything in ring r is at least (r - 1) cells away
+				if (result != null) {
+					final long minDist = (long)(r - 1) * CELL_SIZE;
+					if (minDist * minDist > bestDistSq) break;
+				}
+
+				for (int dx = -r; dx <= r; dx++)
+					for (int dz = -r; dz <= r; dz++) {
+						if (Math.abs(dx) != r && Math.abs(dz) != r) continue;
+						for (ChunkPosition pos : cells.get(cellKey(cellX + dx, cellZ + dz))) {
+							final long px = pos.chunkPosX - x;
+							final long pz = pos.chunkPosZ - z;
+							final long distSq = px * px + pz * pz;
+							if (distSq < bestDistSq) {
+								bestDistSq = distSq;
+								result = pos;
+							}
+						}
+					}
+			}
+
+			return result;
+		}
+
+		public void readFromNBT(NBTTagCompound tag) {
+			int[] data = tag.getIntArray("Positions");
+			for (int i = 0; i + 2 < data.length; i += 3)
+				add(new ChunkPosition(data[i], data[i + 1], data[i + 2]));
+		}
+
+		public void writeToNBT(NBTTagCompound tag) {
+			Collection<ChunkPosition> positions = cells.values();
+			int[] data = new int[3 * positions.size()];
+			int i = 0;
+			for (ChunkPosition pos : positions) {
+				data[i++] = pos.chunkPosX;
+				data[i++] = pos.chunkPosY;
+				data[i++] = pos.chunkPosZ;
+			}
+			tag.setIntArray("Positions", data);
+		}
+	}
+
+	private final Map<String, StructureGrid> structures = Maps.newHashMap();
+
+	public StructureLocationIndex(String name) {
+		super(name);
+	}
+
+	private StructureGrid getGrid(String name) {
+		StructureGrid grid = structures.get(name);
+		if (grid == null) {
+			grid = new StructureGrid();
+			structures.put(name, grid);
+		}
+		return grid;
+	}
+
+	public void addStructure(String name, ChunkPosition pos) {
+		if (getGrid(name).add(pos)) markDirty();
+	}
+
+	public void addStructures(Map<String, ChunkPosition> positions) {
+		for (Map.Entry<String, ChunkPosition> e : positions.entrySet())
+			addStructure(e.getKey(), e.getValue());
+	}
+
+	public ChunkPosition findNearest(String name, int x, int z) {
+		StructureGrid grid = structures.get(name);
+		return grid != null? grid.findNearest(x, z) : null;
+	}
+
+	private void importVanillaStructures(MapStorage storage) {
+		for (String name : VANILLA_STRUCTURES) {
+			try {
+				WorldSavedData data = storage.loadData(MapGenStructureData.class, name);
+				if (!(data instanceof MapGenStructureData)) continue;
+
+				NBTTagCompound features = ((MapGenStructureData)data).func_143041_a();
+				for (Object key : features.func_150296_c()) {
+					NBTTagCompound start = features.getCompoundTag((String)key);
+					if (!start.hasKey("ChunkX")) continue;
+					final int x = (start.getInteger("ChunkX") << 4) + 8;
+					final int z = (start.getInteger("ChunkZ") << 4) + 8;
+					addStructure(name, new ChunkPosition(x, 64, z));
+				}
+			} catch (Throwable t) {
+				Log.warn(t, "Failed to import structure data %s", name);
+			}
+		}
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound tag) {
+		for (Object key : tag.func_150296_c()) {
+			final String name = (String)key;
+			getGrid(name).readFromNBT(tag.getCompoundTag(name));
+		}
+	}
+
+	@Override
+	public void writeToNBT(NBTTagCompound tag) {
+		for (Map.Entry<String, StructureGrid> e : structures.entrySet()) {
+			NBTTagCompound gridTag = new NBTTagCompound();
+			e.getValue().writeToNBT(gridTag);
+			tag.setTag(e.getKey(), gridTag);
+		}
+	}
+
+	public static StructureLocationIndex get(World world) {
+		final MapStorage storage = world.perWorldStorage;
+		StructureLocationIndex result = (StructureLocationIndex)storage.loadData(StructureLocationIndex.class, DATA_NAME);
+		if (result == null) {
+			result = new StructureLocationIndex(DATA_NAME);
+			storage.setData(DATA_NAME, result);
+		}
+		return result;
+	}
+
+	public static Map<String, ChunkPosition> queryAllStructures(WorldServer world, int x, int y, int z) {
+		Map<String, ChunkPosition> result = StructureRegistry.instance.getNearestStructures(world, x, y, z);
+		get(world).addStructures(result);
+		return result;
+	}
+
+	public static ChunkPosition findNearestStructure(WorldServer world, String name, int x, int y, int z) {
+		ChunkPosition result = get(world).findNearest(name, x, z);
+		if (result != null) return result;
+
+		return queryAllStructures(world, x, y, z).get(name);
+	}
+
+	public static class WorldListener {
+		@SubscribeEvent
+		public void onWorldLoad(WorldEvent.Load evt) {
+			if (!evt.world.isRemote) get(evt.world).importVanillaStructures(evt.world.perWorldStorage);
+		}
+
+		@SubscribeEvent
+		public void onWorldSave(WorldEvent.Save evt) {
+			// picks up structure starts generated since last save, index will be written on next one
+			if (!evt.world.isRemote) get(evt.world).importVanillaStructures(evt.world.perWorldStorage);
+		}
+	}
+}
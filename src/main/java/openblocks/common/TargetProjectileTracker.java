@@ -0,0 +1,160 @@
+package openblocks.common;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.util.MathHelper;
+import net.minecraft.util.MovingObjectPosition;
+import net.minecraft.util.MovingObjectPosition.MovingObjectType;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import openblocks.OpenBlocks;
+import openblocks.common.EntityJoinDispatcher.IJoinListener;
+import openblocks.common.tileentity.TileEntityTarget;
+import openmods.utils.EntityUtils;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Tracks modded projectiles (see {@link TileEntityTarget#EXTRA_PROJECTILE_CLASSES}) that don't collide with blocks in vanilla way.
+ * Every projectile is raytraced once per tick, but only when there is registered target nearby. Hits are dispatched by block position.
+ * Projectiles are forgotten when they leave world, including chunk unloads (they are added again on reload).
+ */
+public class TargetProjectileTracker implements IJoinListener {
+
+	private static final int CELL_BITS = 4;
+
+	// same as old search box around target
+	private static final int TARGET_RANGE = 10;
+
+	private static long positionKey(int x, int y, int z) {
+		return ((x & 0x3FFFFFFL) << 38) | ((y & 0xFFFL) << 26) | (z & 0x3FFFFFFL);
+	}
+
+	private static class WorldTracker extends WorldListenerAdapter {
+		private final Set<Entity> projectiles = Sets.newHashSet();
+
+		private final Map<Long, TileEntityTarget> targets = Maps.newHashMap();
+
+		// number of targets per 16x16x16 cell
+		private final Map<Long, Integer> targetCells = Maps.newHashMap();
+
+		public void addTarget(TileEntityTarget target) {
+			if (targets.put(positionKey(target.xCoord, target.yCoord, target.zCoord), target) == null) {
+				final long cell = positionKey(target.xCoord >> CELL_BITS, target.yCoord >> CELL_BITS, target.zCoord >> CELL_BITS);
+				final Integer count = targetCells.get(cell);
+				targetCells.put(cell, count != null? count + 1 : 1);
+			}
+		}
+
+		public void removeTarget(TileEntityTarget target) {
+			final long key = positionKey(target.xCoord, target.yCoord, target.zCoord);
+			if (targets.get(key) != target) return;
+			targets.remove(key);
+
+			final long cell = positionKey(target.xCoord >> CELL_BITS, target.yCoord >> CELL_BITS, target.zCoord >> CELL_BITS);
+			final Integer count = targetCells.get(cell);
+			if (count == null || count <= 1) targetCells.remove(cell);
+			else targetCells.put(cell, count - 1);
+		}
+
+		private boolean hasTargetsNear(Entity projectile) {
+			final int minX = (MathHelper.floor_double(projectile.posX) - TARGET_RANGE) >> CELL_BITS;
+			final int minY = (MathHelper.floor_double(projectile.posY) - TARGET_RANGE) >> CELL_BITS;
+			final int minZ = (MathHelper.floor_double(projectile.posZ) - TARGET_RANGE) >> CELL_BITS;
+			final int maxX = (MathHelper.floor_double(projectile.posX) + TARGET_RANGE) >> CELL_BITS;
+			final int maxY = (MathHelper.floor_double(projectile.posY) + TARGET_RANGE) >> CELL_BITS;
+			final int maxZ = (MathHelper.floor_double(projectile.posZ) + TARGET_RANGE) >> CELL_BITS;
+
+			for (int x = minX; x <= maxX; x++)
+				for (int y = minY; y <= maxY; y++)
+					for (int z = minZ; z <= maxZ; z++)
+						if (targetCells.containsKey(positionKey(x, y, z))) return true;
+
+			return false;
+		}
+
+		public void addProjectile(Entity projectile) {
+			projectiles.add(projectile);
+		}
+
+		@Override
+		public void onEntityDestroy(Entity entity) {
+			projectiles.remove(entity);
+		}
+
+		public void update(World world) {
+			final Iterator<Entity> it = projectiles.iterator();
+			while (it.hasNext()) {
+				final Entity projectile = it.next();
+				if (projectile.isDead || projectile.worldObj != world) {
+					it.remove();
+					continue;
+				}
+
+				if (targets.isEmpty() || !hasTargetsNear(projectile)) continue;
+
+				final MovingObjectPosition hit = EntityUtils.raytraceEntity(projectile);
+				if (hit == null || hit.typeOfHit != MovingObjectType.BLOCK) continue;
+
+				final TileEntityTarget target = targets.get(positionKey(hit.blockX, hit.blockY, hit.blockZ));
+				if (target != null && !target.isInvalid()) OpenBlocks.Blocks.target.onTargetHit(world, hit.blockX, hit.blockY, hit.blockZ, hit.hitVec);
+			}
+		}
+	}
+
+	public static final TargetProjectileTracker instance = new TargetProjectileTracker();
+
+	private final Map<World, WorldTracker> trackers = new MapMaker().weakKeys().makeMap();
+
+	private TargetProjectileTracker() {}
+
+	private WorldTracker getTracker(World world) {
+		WorldTracker tracker = trackers.get(world);
+		if (tracker == null) {
+			tracker = new WorldTracker();
+			trackers.put(world, tracker);
+			world.addWorldAccess(tracker);
+		}
+		return tracker;
+	}
+
+	public void registerTarget(TileEntityTarget target) {
+		getTracker(target.getWorldObj()).addTarget(target);
+	}
+
+	public void unregisterTarget(TileEntityTarget target) {
+		WorldTracker tracker = trackers.get(target.getWorldObj());
+		if (tracker != null) tracker.removeTarget(target);
+	}
+
+	@Override
+	public void onEntityJoinWorld(EntityJoinWorldEvent evt) {
+		if (evt.world.isRemote) return;
+
+		// target may be placed (or loaded) after projectile, so every projectile is tracked
+		getTracker(evt.world).addProjectile(evt.entity);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		trackers.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+
+		final WorldTracker tracker = trackers.get(evt.world);
+		if (tracker != null) tracker.update(evt.world);
+	}
+}
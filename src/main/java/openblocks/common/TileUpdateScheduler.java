@@ -0,0 +1,105 @@
+package openblocks.common;
+
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+
+import com.google.common.collect.MapMaker;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Server side timer for tile entities that need to do something once in a long while.
+ * Unlike {@link ActiveTileTicker}, tiles are only visited when their time comes.
+ */
+public class TileUpdateScheduler {
+
+	public interface IScheduledTile {
+		/**
+		 * @return delay until next update, 0 or less to stop updates
+		 */
+		public int updateScheduled();
+	}
+
+	private static class ScheduledTile implements Comparable<ScheduledTile> {
+		public final TileEntity te;
+		public long time;
+
+		public ScheduledTile(TileEntity te, long time) {
+			this.te = te;
+			this.time = time;
+		}
+
+		@Override
+		public int compareTo(ScheduledTile o) {
+			return time < o.time? -1 : (time > o.time? 1 : 0);
+		}
+	}
+
+	private static class WorldQueue {
+		private final PriorityQueue<ScheduledTile> queue = new PriorityQueue<ScheduledTile>();
+
+		private static boolean isLoaded(World world, TileEntity te) {
+			// unloaded tiles are not invalidated, reloaded chunk has new instance
+			return !te.isInvalid() &&
+					world.blockExists(te.xCoord, te.yCoord, te.zCoord) &&
+					world.getTileEntity(te.xCoord, te.yCoord, te.zCoord) == te;
+		}
+
+		public void update(World world) {
+			final long now = world.getTotalWorldTime();
+
+			ScheduledTile next;
+			while ((next = queue.peek()) != null && next.time <= now) {
+				queue.poll();
+				if (!isLoaded(world, next.te)) continue;
+
+				final int delay = ((IScheduledTile)next.te).updateScheduled();
+				if (delay > 0) {
+					next.time = now + delay;
+					queue.add(next);
+				}
+			}
+		}
+	}
+
+	public static final TileUpdateScheduler instance = new TileUpdateScheduler();
+
+	private final Map<World, WorldQueue> queues = new MapMaker().weakKeys().makeMap();
+
+	private TileUpdateScheduler() {}
+
+	/**
+	 * Tile should be scheduled only once, later updates are controlled by {@link IScheduledTile#updateScheduled()} result.
+	 */
+	public <T extends TileEntity & IScheduledTile> void schedule(T te, int delay) {
+		final World world = te.getWorldObj();
+		if (world == null || world.isRemote) return;
+
+		WorldQueue queue = queues.get(world);
+		if (queue == null) {
+			queue = new WorldQueue();
+			queues.put(world, queue);
+		}
+
+		queue.queue.add(new ScheduledTile(te, world.getTotalWorldTime() + Math.max(1, delay)));
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		queues.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+
+		final WorldQueue queue = queues.get(evt.world);
+		if (queue != null) queue.update(evt.world);
+	}
+}
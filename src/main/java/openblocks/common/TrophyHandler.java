@@ -173,8 +173,8 @@ public class TrophyHandler {
 			return 0;
 		}
 
-		public void executeTickBehavior(TileEntityTrophy tile) {
-			if (behavior != null) behavior.executeTickBehavior(tile);
+		public int executeScheduledBehavior(TileEntityTrophy tile) {
+			return behavior != null? behavior.executeScheduledBehavior(tile) : 0;
 		}
 
 		protected Entity createEntity() {
@@ -0,0 +1,51 @@
+package openblocks.common;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.IWorldAccess;
+
+/**
+ * World listener with all callbacks empty, for listeners interested only in few of them.
+ * There is no event for entity leaving world or for block render updates (also caused by light changes), but listeners are notified about both (including chunk loads and unloads).
+ */
+public abstract class WorldListenerAdapter implements IWorldAccess {
+
+	@Override
+	public void onEntityCreate(Entity entity) {}
+
+	@Override
+	public void onEntityDestroy(Entity entity) {}
+
+	@Override
+	public void markBlockForUpdate(int x, int y, int z) {}
+
+	@Override
+	public void markBlockForRenderUpdate(int x, int y, int z) {}
+
+	@Override
+	public void markBlockRangeForRenderUpdate(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {}
+
+	@Override
+	public void playSound(String sound, double x, double y, double z, float volume, float pitch) {}
+
+	@Override
+	public void playSoundToNearExcept(EntityPlayer player, String sound, double x, double y, double z, float volume, float pitch) {}
+
+	@Override
+	public void spawnParticle(String particle, double x, double y, double z, double velX, double velY, double velZ) {}
+
+	@Override
+	public void playRecord(String record, int x, int y, int z) {}
+
+	@Override
+	public void broadcastSound(int soundId, int x, int y, int z, int data) {}
+
+	@Override
+	public void playAuxSFX(EntityPlayer player, int sfxType, int x, int y, int z, int data) {}
+
+	@Override
+	public void destroyBlockPartially(int breakerId, int x, int y, int z, int progress) {}
+
+	@Override
+	public void onStaticEntitiesChanged() {}
+}
@@ -7,10 +7,12 @@ import net.minecraft.block.material.MapColor;
 import net.minecraft.block.material.Material;
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.*;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
+import openblocks.common.ImaginationContext;
 import openblocks.common.tileentity.TileEntityImaginary;
 import openblocks.common.tileentity.TileEntityImaginary.Property;
 
@@ -69,8 +71,10 @@ public class BlockImaginary extends OpenBlock {
 	@Override
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	public void addCollisionBoxesToList(World world, int x, int y, int z, AxisAlignedBB region, List result, Entity entity) {
+		if (!(entity instanceof EntityPlayer)) return;
+
 		TileEntityImaginary te = getTileEntity(world, x, y, z, TileEntityImaginary.class);
-		if (te != null && te.is(Property.SOLID, entity)) te.addCollisions(region, result);
+		if (te != null && ImaginationContext.get((EntityPlayer)entity).is(Property.SOLID, te)) te.addCollisions(region, result);
 	}
 
 	@Override
@@ -14,9 +14,9 @@ import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.ForgeDirection;
 import openblocks.OpenBlocks;
+import openblocks.common.RopeLadderColumns;
 import openmods.block.BlockRotationMode;
 import openmods.infobook.BookDocumentation;
-import openmods.utils.BlockNotifyFlags;
 import openmods.utils.BlockUtils;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -129,25 +129,20 @@ public class BlockRopeLadder extends OpenBlock {
 
 	@Override
 	public void breakBlock(World world, int x, int y, int z, Block block, int meta) {
-		y--;
-
-		if (y > 0) {
-			Block bottomBlock = world.getBlock(x, y, z);
-			if (bottomBlock == block) world.setBlockToAir(x, y, z);
-		}
+		if (world.getBlock(x, y - 1, z) == block) RopeLadderColumns.instance.retract(world, block, x, y - 1, z);
 	}
 
 	@Override
 	public void afterBlockPlaced(World world, EntityPlayer player, ItemStack stack, int x, int y, int z, ForgeDirection side, ForgeDirection blockDir, float hitX, float hitY, float hitZ, int itemMeta) {
 		super.afterBlockPlaced(world, player, stack, x, y, z, side, blockDir, hitX, hitY, hitZ, itemMeta);
+		if (world.isRemote) return;
+
+		// ladders are taken from stack now, column is extended over next ticks
+		final int count = RopeLadderColumns.measureColumn(world, this, x, y, z, blockDir, stack.stackSize - 1);
+		stack.stackSize -= count;
+
 		final int blockMeta = blockRotationMode.toValue(blockDir);
-		while (--y > 0 && stack.stackSize > 1) {
-			if (world.isAirBlock(x, y, z) && canPlaceBlockOnSide(world, x, y, z, blockDir)) {
-				world.setBlock(x, y, z, this, blockMeta, BlockNotifyFlags.ALL);
-				stack.stackSize--;
-			}
-			else return;
-		}
+		RopeLadderColumns.instance.deploy(world, this, x, y, z, blockMeta, blockDir, count, !player.capabilities.isCreativeMode);
 	}
 
 }
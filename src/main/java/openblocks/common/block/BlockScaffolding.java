@@ -1,12 +1,10 @@
 package openblocks.common.block;
 
-import java.util.Random;
-
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.world.IBlockAccess;
 import net.minecraft.world.World;
-import openblocks.Config;
+import openblocks.common.ScaffoldingDecayManager;
 import openmods.infobook.BookDocumentation;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -15,7 +13,6 @@ import cpw.mods.fml.relauncher.SideOnly;
 public class BlockScaffolding extends OpenBlock {
 	public BlockScaffolding() {
 		super(Material.cloth);
-		setTickRandomly(true);
 		setHardness(0.1F);
 	}
 
@@ -25,11 +22,15 @@ public class BlockScaffolding extends OpenBlock {
 	}
 
 	@Override
-	public void updateTick(World world, int x, int y, int z, Random random) {
-		if (Config.scaffoldingDespawnRate <= 0 || random.nextInt(Config.scaffoldingDespawnRate) == 0) {
-			dropBlockAsItem(world, x, y, z, 0, 0);
-			world.setBlockToAir(x, y, z);
-		}
+	public void onBlockAdded(World world, int x, int y, int z) {
+		super.onBlockAdded(world, x, y, z);
+		ScaffoldingDecayManager.instance.onPlaced(world, x, y, z);
+	}
+
+	@Override
+	public void breakBlock(World world, int x, int y, int z, Block block, int meta) {
+		ScaffoldingDecayManager.instance.onRemoved(world, x, y, z);
+		super.breakBlock(world, x, y, z, block, meta);
 	}
 
 	@Override
@@ -1,5 +1,7 @@
 package openblocks.common.block;
 
+import java.util.Random;
+
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.projectile.EntityArrow;
@@ -86,6 +88,12 @@ public class BlockTarget extends OpenBlock {
 
 	}
 
+	@Override
+	public void updateTick(World world, int x, int y, int z, Random random) {
+		final TileEntityTarget target = getTileEntity(world, x, y, z, TileEntityTarget.class);
+		if (target != null) target.resetStrength();
+	}
+
 	@Override
 	public int isProvidingWeakPower(IBlockAccess world, int x, int y, int z, int m) {
 		TileEntity tile = world.getTileEntity(x, y, z);
@@ -14,4 +14,10 @@ public class ContainerAutoAnvil extends ContainerInventoryProvider<TileEntityAut
 		addPlayerInventorySlots(93);
 	}
 
+	@Override
+	public void detectAndSendChanges() {
+		super.detectAndSendChanges();
+		// settings are changed via RPC, which doesn't notify tile, so keep it awake while GUI is open
+		getOwner().wake();
+	}
 }
@@ -13,4 +13,10 @@ public class ContainerXPBottler extends ContainerInventoryProvider<TileEntityXPB
 		addPlayerInventorySlots(69);
 	}
 
+	@Override
+	public void detectAndSendChanges() {
+		super.detectAndSendChanges();
+		// settings are changed via RPC, which doesn't notify tile, so keep it awake while GUI is open
+		getOwner().wake();
+	}
 }
@@ -0,0 +1,440 @@
+package openblocks.common.entity;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.init.Blocks;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.DamageSource;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.common.MinecraftForge;
+import net.minecraftforge.common.util.Constants;
+import net.minecraftforge.event.world.BlockEvent;
+import openblocks.api.IMagnetAware;
+import openmods.sync.*;
+import openmods.utils.ByteUtils;
+
+/**
+ * Many lifted blocks moving as single entity. Blocks are kept as offsets from entity position, so whole swarm needs only one tracker entry and one mesh on client.
+ */
+public class EntityBlockSwarm extends Entity implements IMagnetAware, ISyncMapProvider {
+
+	private static final double RISING_SPEED = 0.1;
+	private static final double INITIAL_FALL_SPEED = -0.9;
+	private static final double GRAVITY = 0.04;
+	private static final double MAX_FALL_SPEED = -3.9;
+
+	// in case owner forgets about swarm (for example, egg chunk gets unloaded)
+	private static final int MAX_RISING_TICKS = 600;
+
+	public static enum Mode {
+		RISING,
+		FALLING,
+		CARRIED
+	}
+
+	public static class Members extends SyncableObjectBase {
+		private static final int INITIAL_CAPACITY = 8;
+
+		private int count;
+		private Block[] blocks = new Block[INITIAL_CAPACITY];
+		private byte[] metas = new byte[INITIAL_CAPACITY];
+		// x, y, z of bottom center of every block, relative to entity
+		private float[] offsets = new float[3 * INITIAL_CAPACITY];
+		// server only, never sent to clients
+		private NBTTagCompound[] tiles = new NBTTagCompound[INITIAL_CAPACITY];
+
+		private int version;
+
+		private void ensureCapacity(int capacity) {
+			if (blocks.length >= capacity) return;
+			final int newCapacity = Math.max(capacity, 2 * blocks.length);
+			blocks = Arrays.copyOf(blocks, newCapacity);
+			metas = Arrays.copyOf(metas, newCapacity);
+			offsets = Arrays.copyOf(offsets, 3 * newCapacity);
+			tiles = Arrays.copyOf(tiles, newCapacity);
+		}
+
+		private void changed() {
+			version++;
+			markDirty();
+		}
+
+		public int size() {
+			return count;
+		}
+
+		public boolean isEmpty() {
+			return count == 0;
+		}
+
+		/**
+		 * Incremented on every change, on both sides
+		 */
+		public int getVersion() {
+			return version;
+		}
+
+		public Block getBlock(int index) {
+			return blocks[index];
+		}
+
+		public int getMeta(int index) {
+			return metas[index] & 0xF;
+		}
+
+		public float getOffsetX(int index) {
+			return offsets[3 * index];
+		}
+
+		public float getOffsetY(int index) {
+			return offsets[3 * index + 1];
+		}
+
+		public float getOffsetZ(int index) {
+			return offsets[3 * index + 2];
+		}
+
+		public NBTTagCompound getTile(int index) {
+			return tiles[index];
+		}
+
+		public void add(Block block, int meta, NBTTagCompound tile, float x, float y, float z) {
+			ensureCapacity(count + 1);
+			blocks[count] = block;
+			metas[count] = (byte)meta;
+			offsets[3 * count] = x;
+			offsets[3 * count + 1] = y;
+			offsets[3 * count + 2] = z;
+			tiles[count] = tile;
+			count++;
+			changed();
+		}
+
+		/**
+		 * Order is not preserved - last element takes place of removed one
+		 */
+		public void remove(int index) {
+			final int last = --count;
+			blocks[index] = blocks[last];
+			metas[index] = metas[last];
+			System.arraycopy(offsets, 3 * last, offsets, 3 * index, 3);
+			tiles[index] = tiles[last];
+			blocks[last] = null;
+			tiles[last] = null;
+			changed();
+		}
+
+		@Override
+		public void readFromStream(DataInputStream input) throws IOException {
+			final int size = ByteUtils.readVLI(input);
+			ensureCapacity(size);
+			for (int i = 0; i < size; i++) {
+				blocks[i] = Block.getBlockById(ByteUtils.readVLI(input));
+				metas[i] = input.readByte();
+				offsets[3 * i] = input.readFloat();
+				offsets[3 * i + 1] = input.readFloat();
+				offsets[3 * i + 2] = input.readFloat();
+			}
+			Arrays.fill(blocks, size, blocks.length, null);
+			count = size;
+			version++;
+		}
+
+		@Override
+		public void writeToStream(DataOutputStream output) throws IOException {
+			ByteUtils.writeVLI(output, count);
+			for (int i = 0; i < count; i++) {
+				ByteUtils.writeVLI(output, Block.getIdFromBlock(blocks[i]));
+				output.writeByte(metas[i]);
+				output.writeFloat(offsets[3 * i]);
+				output.writeFloat(offsets[3 * i + 1]);
+				output.writeFloat(offsets[3 * i + 2]);
+			}
+		}
+
+		@Override
+		public void writeToNBT(NBTTagCompound tag, String name) {
+			NBTTagList list = new NBTTagList();
+			for (int i = 0; i < count; i++) {
+				NBTTagCompound member = new NBTTagCompound();
+				member.setString("Block", Block.blockRegistry.getNameForObject(blocks[i]));
+				member.setByte("Meta", metas[i]);
+				member.setFloat("X", offsets[3 * i]);
+				member.setFloat("Y", offsets[3 * i + 1]);
+				member.setFloat("Z", offsets[3 * i + 2]);
+				if (tiles[i] != null) member.setTag("TileEntity", tiles[i]);
+				list.appendTag(member);
+			}
+			tag.setTag(name, list);
+		}
+
+		@Override
+		public void readFromNBT(NBTTagCompound tag, String name) {
+			count = 0;
+			NBTTagList list = tag.getTagList(name, Constants.NBT.TAG_COMPOUND);
+			for (int i = 0; i < list.tagCount(); i++) {
+				NBTTagCompound member = list.getCompoundTagAt(i);
+				Block block = Block.getBlockFromName(member.getString("Block"));
+				if (block == null || block == Blocks.air) continue;
+				NBTTagCompound tile = member.hasKey("TileEntity", Constants.NBT.TAG_COMPOUND)? member.getCompoundTag("TileEntity") : null;
+				add(block, member.getByte("Meta"), tile, member.getFloat("X"), member.getFloat("Y"), member.getFloat("Z"));
+			}
+		}
+	}
+
+	public final SyncableEnum<Mode> mode = SyncableEnum.create(Mode.RISING);
+	public final Members members = new Members();
+
+	private final SyncMapEntity<EntityBlockSwarm> syncMap = new SyncMapEntity<EntityBlockSwarm>(this);
+
+	{
+		SyncObjectScanner.INSTANCE.registerAllFields(syncMap, this);
+	}
+
+	public EntityBlockSwarm(World world) {
+		super(world);
+		setSize(1, 1);
+		noClip = true;
+		// mesh is usually much bigger than bounding box
+		ignoreFrustumCheck = true;
+	}
+
+	public EntityBlockSwarm(World world, double x, double y, double z, Mode mode) {
+		this(world);
+		setPosition(x, y, z);
+		this.mode.set(mode);
+	}
+
+	@Override
+	protected void entityInit() {}
+
+	private static boolean canPlaceIn(World world, int x, int y, int z) {
+		return world.getBlock(x, y, z).isReplaceable(world, x, y, z);
+	}
+
+	private static boolean isFloor(World world, int x, int y, int z) {
+		if (y < 0) return true;
+		final Block block = world.getBlock(x, y, z);
+		return !block.isAir(world, x, y, z) && !block.isReplaceable(world, x, y, z);
+	}
+
+	/**
+	 * Moves block from world into swarm, keeping it at its current position.
+	 */
+	public boolean addBlock(EntityPlayer player, int x, int y, int z) {
+		if (worldObj.isRemote || !isAcceptingBlocks() || worldObj.isAirBlock(x, y, z)) return false;
+
+		final Block block = worldObj.getBlock(x, y, z);
+		final int meta = worldObj.getBlockMetadata(x, y, z);
+
+		BlockEvent.BreakEvent event = new BlockEvent.BreakEvent(x, y, z, worldObj, block, meta, player);
+		if (MinecraftForge.EVENT_BUS.post(event)) return false;
+
+		NBTTagCompound tile = null;
+		final TileEntity te = worldObj.getTileEntity(x, y, z);
+		if (te != null) {
+			tile = new NBTTagCompound();
+			te.writeToNBT(tile);
+			// removed before block, so containers don't spill contents
+			worldObj.removeTileEntity(x, y, z);
+		}
+
+		worldObj.setBlockToAir(x, y, z);
+		members.add(block, meta, tile, (float)(x + 0.5 - posX), (float)(y - posY), (float)(z + 0.5 - posZ));
+		updateSize();
+		return true;
+	}
+
+	/**
+	 * Blocks can be added only while swarm is rising (it may start falling on its own)
+	 */
+	public boolean isAcceptingBlocks() {
+		return !isDead && mode.get() == Mode.RISING;
+	}
+
+	public void startFalling() {
+		if (mode.get() == Mode.FALLING) return;
+		mode.set(Mode.FALLING);
+		motionY = INITIAL_FALL_SPEED;
+	}
+
+	private void updateSize() {
+		float extent = 0;
+		for (int i = 0; i < members.size(); i++)
+			extent = Math.max(extent, Math.max(Math.abs(members.getOffsetX(i)), Math.abs(members.getOffsetZ(i))));
+
+		setSize(2 * extent + 1, 1);
+	}
+
+	private int getMemberX(int index) {
+		return MathHelper.floor_double(posX + members.getOffsetX(index));
+	}
+
+	private int getMemberY(int index) {
+		return MathHelper.floor_double(posY + members.getOffsetY(index));
+	}
+
+	private int getMemberZ(int index) {
+		return MathHelper.floor_double(posZ + members.getOffsetZ(index));
+	}
+
+	/**
+	 * Places member in given cell or, if it's taken, in nearest free cell above.
+	 *
+	 * @return false if member could not be placed (it should stay in swarm, so tile entity data is not lost)
+	 */
+	private boolean placeMember(int index, int x, int y, int z) {
+		final Block block = members.getBlock(index);
+		final int meta = members.getMeta(index);
+
+		for (; y < worldObj.getHeight(); y++) {
+			if (!canPlaceIn(worldObj, x, y, z)) continue;
+			if (!worldObj.setBlock(x, y, z, block, meta, 3)) return false;
+
+			final NBTTagCompound tile = members.getTile(index);
+			if (tile != null) {
+				final TileEntity te = worldObj.getTileEntity(x, y, z);
+				if (te != null) {
+					tile.setInteger("x", x);
+					tile.setInteger("y", y);
+					tile.setInteger("z", z);
+					te.readFromNBT(tile);
+				}
+			}
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Lower blocks are placed first, so blocks stacked above them land on top instead of taking same cell
+	 */
+	private Integer[] getMembersBottomUp() {
+		final Integer[] order = new Integer[members.size()];
+		for (int i = 0; i < order.length; i++)
+			order[i] = i;
+
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer a, Integer b) {
+				return Float.compare(members.getOffsetY(a), members.getOffsetY(b));
+			}
+		});
+		return order;
+	}
+
+	private void removeMembers(boolean[] placed) {
+		// removal moves last member, so going from end keeps remaining indices valid
+		for (int i = placed.length - 1; i >= 0; i--)
+			if (placed[i]) members.remove(i);
+	}
+
+	private void placeAll() {
+		final boolean[] placed = new boolean[members.size()];
+		for (int i : getMembersBottomUp())
+			placed[i] = placeMember(i, getMemberX(i), getMemberY(i), getMemberZ(i));
+
+		removeMembers(placed);
+		if (!members.isEmpty()) startFalling();
+	}
+
+	private void landMembers(double newPosY) {
+		final boolean[] placed = new boolean[members.size()];
+		for (int i : getMembersBottomUp()) {
+			final int x = getMemberX(i);
+			final int z = getMemberZ(i);
+			final double offsetY = members.getOffsetY(i);
+			// check every cell crossed by bottom of block in this tick
+			final int top = MathHelper.floor_double(posY + offsetY) - 1;
+			final int bottom = MathHelper.floor_double(newPosY + offsetY);
+			for (int y = top; y >= bottom; y--) {
+				if (isFloor(worldObj, x, y, z)) {
+					placed[i] = placeMember(i, x, Math.max(y + 1, 0), z);
+					break;
+				}
+			}
+		}
+
+		removeMembers(placed);
+	}
+
+	@Override
+	public void onUpdate() {
+		prevPosX = posX;
+		prevPosY = posY;
+		prevPosZ = posZ;
+
+		if (ridingEntity == null) {
+			switch (mode.get()) {
+				case RISING:
+					setPosition(posX, posY + RISING_SPEED, posZ);
+					if (!worldObj.isRemote && ticksExisted > MAX_RISING_TICKS) startFalling();
+					break;
+				case FALLING:
+					motionY = Math.max(motionY - GRAVITY, MAX_FALL_SPEED);
+					if (!worldObj.isRemote) landMembers(posY + motionY);
+					setPosition(posX, posY + motionY, posZ);
+					break;
+				case CARRIED:
+					// dropped by magnet
+					if (!worldObj.isRemote) placeAll();
+					break;
+			}
+		}
+
+		if (!worldObj.isRemote) {
+			if (members.isEmpty()) setDead();
+			syncMap.sync();
+		}
+	}
+
+	@Override
+	public boolean canRelease() {
+		for (int i = 0; i < members.size(); i++)
+			if (!worldObj.isAirBlock(getMemberX(i), getMemberY(i), getMemberZ(i))) return false;
+
+		return true;
+	}
+
+	@Override
+	public boolean canBeCollidedWith() {
+		return false;
+	}
+
+	@Override
+	public boolean canBePushed() {
+		return false;
+	}
+
+	@Override
+	public boolean attackEntityFrom(DamageSource source, float amount) {
+		return false;
+	}
+
+	@Override
+	protected void readEntityFromNBT(NBTTagCompound tag) {
+		syncMap.readFromNBT(tag);
+		updateSize();
+	}
+
+	@Override
+	protected void writeEntityToNBT(NBTTagCompound tag) {
+		syncMap.writeToNBT(tag);
+	}
+
+	@Override
+	public SyncMap<EntityBlockSwarm> getSyncMap() {
+		return syncMap;
+	}
+}
@@ -43,18 +43,10 @@ public class EntityHangGlider extends Entity implements IEntityAdditionalSpawnDa
 		return true;
 	}
 
-	@SideOnly(Side.CLIENT)
-	public static void updateGliders(World worldObj) {
-		for (Map.Entry<EntityPlayer, EntityHangGlider> e : gliderMap.entrySet()) {
-			EntityPlayer player = e.getKey();
-			EntityHangGlider glider = e.getValue();
-			if (isGliderValid(player, glider)) glider.fixPositions(player, player instanceof EntityPlayerSP);
-			else glider.setDead();
-		}
-	}
-
 	private EntityPlayer player;
 
+	private final GliderFlightModel flightModel = new GliderFlightModel();
+
 	public EntityHangGlider(World world) {
 		super(world);
 	}
@@ -94,7 +86,10 @@ public class EntityHangGlider extends Entity implements IEntityAdditionalSpawnDa
 	}
 
 	public boolean isDeployed() {
-		return this.dataWatcher.getWatchableObjectByte(PROPERTY_DEPLOYED) == 1;
+		if (player == null) return true;
+		// clients don't receive ground state of other players, so server value is used for them
+		if (worldObj.isRemote && !isLocalPlayerGlider()) return this.dataWatcher.getWatchableObjectByte(PROPERTY_DEPLOYED) == 1;
+		return GliderFlightModel.isGrounded(player);
 	}
 
 	@Override
@@ -108,34 +103,22 @@ public class EntityHangGlider extends Entity implements IEntityAdditionalSpawnDa
 			return;
 		}
 
-		boolean isDeployed = player.onGround || player.isInWater();
-
-		if (!worldObj.isRemote) {
-			this.dataWatcher.updateObject(PROPERTY_DEPLOYED, (byte)(isDeployed? 1 : 0));
+		// glider is updated after its player, so it can just follow it
+		if (worldObj.isRemote) {
+			fixPositions(player, isLocalPlayerGlider());
+		} else {
+			// data watcher sends value only when it changes
+			this.dataWatcher.updateObject(PROPERTY_DEPLOYED, (byte)(isDeployed()? 1 : 0));
 			fixPositions(player, false);
 		}
 
-		if (!isDeployed && player.motionY < 0) {
-			final double horizontalSpeed;
-			final double verticalSpeed;
-
-			if (player.isSneaking()) {
-				horizontalSpeed = 0.1;
-				verticalSpeed = 0.7;
-			} else {
-				horizontalSpeed = 0.03;
-				verticalSpeed = 0.4;
-			}
-
-			player.motionY *= verticalSpeed;
-			motionY *= verticalSpeed;
-			double x = Math.cos(Math.toRadians(player.rotationYawHead + 90)) * horizontalSpeed;
-			double z = Math.sin(Math.toRadians(player.rotationYawHead + 90)) * horizontalSpeed;
-			player.motionX += x;
-			player.motionZ += z;
-			player.fallDistance = 0f; /* Don't like getting hurt :( */
-		}
+		// other players are moved by server, so only their owners run flight model
+		if (!worldObj.isRemote || isLocalPlayerGlider()) flightModel.update(player);
+	}
 
+	@SideOnly(Side.CLIENT)
+	private boolean isLocalPlayerGlider() {
+		return player instanceof EntityPlayerSP;
 	}
 
 	public EntityPlayer getPlayer() {
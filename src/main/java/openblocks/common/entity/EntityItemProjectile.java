@@ -1,7 +1,5 @@
 package openblocks.common.entity;
 
-import java.util.Iterator;
-
 import net.minecraft.block.Block;
 import net.minecraft.block.material.Material;
 import net.minecraft.entity.item.EntityItem;
@@ -16,6 +14,9 @@ import net.minecraftforge.event.entity.item.ItemExpireEvent;
  * Ugly EntityItem holder thingy with no air resistance. Because physics is hard
  * enough as it is
  *
+ * While there is only air around, item just follows ballistic arc - world is only checked when item enters new blocks.
+ * Items are not merged in flight, see {@link ProjectileLandingMerger}
+ *
  */
 public class EntityItemProjectile extends EntityItem {
 
@@ -33,6 +34,39 @@ public class EntityItemProjectile extends EntityItem {
 		super(par1World);
 	}
 
+	private static final double GRAVITY = 0.03999999910593033D;
+
+	// cells around flight path that were already checked and found empty
+	private int clearMinX, clearMinY, clearMinZ;
+	private int clearMaxX = Integer.MIN_VALUE, clearMaxY, clearMaxZ;
+
+	private boolean isPathClear() {
+		final int minX = MathHelper.floor_double(boundingBox.minX + Math.min(motionX, 0));
+		final int minY = MathHelper.floor_double(boundingBox.minY + Math.min(motionY, 0));
+		final int minZ = MathHelper.floor_double(boundingBox.minZ + Math.min(motionZ, 0));
+		final int maxX = MathHelper.floor_double(boundingBox.maxX + Math.max(motionX, 0));
+		final int maxY = MathHelper.floor_double(boundingBox.maxY + Math.max(motionY, 0));
+		final int maxZ = MathHelper.floor_double(boundingBox.maxZ + Math.max(motionZ, 0));
+
+		// still in same cells, nothing new to check
+		if (minX >= clearMinX && maxX <= clearMaxX &&
+				minY >= clearMinY && maxY <= clearMaxY &&
+				minZ >= clearMinZ && maxZ <= clearMaxZ) return true;
+
+		for (int x = minX; x <= maxX; x++)
+			for (int y = minY; y <= maxY; y++)
+				for (int z = minZ; z <= maxZ; z++)
+					if (!worldObj.isAirBlock(x, y, z)) return false;
+
+		clearMinX = minX;
+		clearMinY = minY;
+		clearMinZ = minZ;
+		clearMaxX = maxX;
+		clearMaxY = maxY;
+		clearMaxZ = maxZ;
+		return true;
+	}
+
 	@Override
 	public void onUpdate() {
 		ItemStack stack = getDataWatcher().getWatchableObjectItemStack(10);
@@ -40,21 +74,26 @@ public class EntityItemProjectile extends EntityItem {
 			if (stack.getItem().onEntityItemUpdate(this)) { return; }
 		}
 
-		super.onEntityUpdate();
-
 		if (delayBeforeCanPickup > 0) --delayBeforeCanPickup;
 
 		prevPosX = posX;
 		prevPosY = posY;
 		prevPosZ = posZ;
-		motionY -= 0.03999999910593033D;
-		noClip = func_145771_j(posX, (boundingBox.minY + boundingBox.maxY) / 2.0D, posZ);
-		moveEntity(motionX, motionY, motionZ);
-		boolean flag = (int)prevPosX != (int)posX
-				|| (int)prevPosY != (int)posY
-				|| (int)prevPosZ != (int)posZ;
-
-		if (flag || ticksExisted % 25 == 0) {
+		motionY -= GRAVITY;
+
+		// Zero Air Friction
+		float f = 1F;
+
+		if (!onGround && isPathClear()) {
+			// only air on the way, so collisions, liquids and merging can be skipped
+			if (posY < -64.0D) kill();
+			setPosition(posX + motionX, posY + motionY, posZ + motionZ);
+		} else {
+			super.onEntityUpdate();
+
+			noClip = func_145771_j(posX, (boundingBox.minY + boundingBox.maxY) / 2.0D, posZ);
+			moveEntity(motionX, motionY, motionZ);
+
 			Block block = worldObj.getBlock(
 					MathHelper.floor_double(posX),
 					MathHelper.floor_double(posY),
@@ -67,24 +106,17 @@ public class EntityItemProjectile extends EntityItem {
 				playSound("random.fizz", 0.4F, 2.0F + rand.nextFloat() * 0.4F);
 			}
 
-			if (!worldObj.isRemote) {
-				searchForOtherItemsNearby();
-			}
-		}
+			// Keep ground friction
+			if (onGround) {
+				f = 0.58800006F;
+				Block ground = worldObj.getBlock(
+						MathHelper.floor_double(posX),
+						MathHelper.floor_double(boundingBox.minY) - 1,
+						MathHelper.floor_double(posZ));
 
-		// Zero Air Friction
-		float f = 1F;
-
-		// Keep ground friction
-		if (onGround) {
-			f = 0.58800006F;
-			Block block = worldObj.getBlock(
-					MathHelper.floor_double(posX),
-					MathHelper.floor_double(boundingBox.minY) - 1,
-					MathHelper.floor_double(posZ));
-
-			if (block != null) {
-				f = block.slipperiness * 0.98F;
+				if (ground != null) {
+					f = ground.slipperiness * 0.98F;
+				}
 			}
 		}
 
@@ -125,21 +157,8 @@ public class EntityItemProjectile extends EntityItem {
 			writeToNBT(transferTag);
 			standardEntity.readFromNBT(transferTag);
 			setDead();
-			worldObj.spawnEntityInWorld(standardEntity);
-		}
-	}
-
-	/**
-	 * Looks for other itemstacks nearby and tries to stack them together
-	 */
-	private void searchForOtherItemsNearby() {
-		Iterator<?> iterator = this.worldObj.getEntitiesWithinAABB(
-				EntityItem.class, this.boundingBox.expand(0.5D, 0.0D, 0.5D))
-				.iterator();
-
-		while (iterator.hasNext()) {
-			EntityItem entityitem = (EntityItem)iterator.next();
-			combineItems(entityitem);
+			// merged with other items landed in same block and spawned at end of tick
+			ProjectileLandingMerger.instance.addLandedItem(standardEntity);
 		}
 	}
 
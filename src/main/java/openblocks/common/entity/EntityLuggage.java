@@ -1,6 +1,9 @@
 package openblocks.common.entity;
 
 import io.netty.buffer.ByteBuf;
+
+import java.util.Map;
+
 import net.minecraft.block.Block;
 import net.minecraft.entity.EntityAgeable;
 import net.minecraft.entity.ai.EntityAIFollowOwner;
@@ -8,6 +11,7 @@ import net.minecraft.entity.ai.EntityAISwimming;
 import net.minecraft.entity.effect.EntityLightningBolt;
 import net.minecraft.entity.passive.EntityTameable;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemNameTag;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -22,6 +26,7 @@ import openmods.inventory.IInventoryProvider;
 import openmods.inventory.legacy.ItemDistribution;
 
 import com.google.common.base.Strings;
+import com.google.common.collect.Maps;
 
 import cpw.mods.fml.common.registry.IEntityAdditionalSpawnData;
 
@@ -38,16 +43,28 @@ public class EntityLuggage extends EntityTameable implements IInventoryProvider,
 	protected GenericInventory inventory = createInventory(SIZE_NORMAL);
 
 	private GenericInventory createInventory(int size) {
+		onInventoryChanged();
 		return new GenericInventory("luggage", false, size) {
 			@Override
 			public boolean isUseableByPlayer(EntityPlayer player) {
 				return !isDead && player.getDistanceSqToEntity(EntityLuggage.this) < 64;
 			}
+
+			@Override
+			public void onInventoryChanged(int slotNumber) {
+				super.onInventoryChanged(slotNumber);
+				EntityLuggage.this.onInventoryChanged();
+			}
 		};
 	}
 
 	public boolean special;
 
+	// insertion test results for stacks without NBT, keyed by item id and damage
+	private final Map<Long, Boolean> insertionCache = Maps.newHashMap();
+
+	private int inventoryVersion;
+
 	public int lastSound = 0;
 
 	private NBTTagCompound itemTag;
@@ -177,8 +194,27 @@ public class EntityLuggage extends EntityTameable implements IInventoryProvider,
 		if (stack.hasDisplayName()) setCustomNameTag(stack.getDisplayName());
 	}
 
+	private void onInventoryChanged() {
+		// may be called from field initializer
+		if (insertionCache != null) insertionCache.clear();
+		inventoryVersion++;
+	}
+
+	public int getInventoryVersion() {
+		return inventoryVersion;
+	}
+
 	public boolean canConsumeStackPartially(ItemStack stack) {
-		return ItemDistribution.testInventoryInsertion(inventory, stack) > 0;
+		// result does not depend on stack size
+		if (stack.hasTagCompound()) return ItemDistribution.testInventoryInsertion(inventory, stack) > 0;
+
+		final long key = ((long)Item.getIdFromItem(stack.getItem()) << 32) | (stack.getItemDamage() & 0xFFFFFFFFL);
+		Boolean result = insertionCache.get(key);
+		if (result == null) {
+			result = ItemDistribution.testInventoryInsertion(inventory, stack) > 0;
+			insertionCache.put(key, result);
+		}
+		return result;
 	}
 
 	@Override
@@ -19,6 +19,7 @@ import net.minecraft.world.World;
 import openblocks.Config;
 import openblocks.api.IMagnetAware;
 import openblocks.common.CraneRegistry;
+import openblocks.common.CraneRegistry.CraneType;
 import openblocks.common.MagnetWhitelists;
 import openblocks.common.item.ItemCraneBackpack;
 import openmods.entity.DelayedEntityLoadManager;
@@ -35,7 +36,7 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 	private static final Random RANDOM = new Random();
 
 	public interface IEntityBlockFactory {
-		public EntityBlock create(EntityPlayer player);
+		public Entity create(EntityPlayer player);
 	}
 
 	public interface IOwner {
@@ -43,12 +44,14 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 
 		public Vec3 getTarget();
 
-		public EntityBlock createByPlayer(IEntityBlockFactory factory);
+		public Entity createByPlayer(IEntityBlockFactory factory);
 	}
 
 	private static class EntityPlayerTarget implements IOwner {
 		private WeakReference<EntityPlayer> owner;
 
+		private final Vec3 target = Vec3.createVectorHelper(0, 0, 0);
+
 		public EntityPlayerTarget(EntityPlayer owner) {
 			this.owner = new WeakReference<EntityPlayer>(owner);
 		}
@@ -66,20 +69,16 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 			EntityPlayer player = owner.get();
 			if (player == null) return null;
 
-			double posX = player.posX + CraneRegistry.ARM_RADIUS
-					* MathHelper.cos((player.rotationYaw + 90) * (float)Math.PI / 180);
-			double posZ = player.posZ
-					+ CraneRegistry.ARM_RADIUS
-					* MathHelper.sin((player.rotationYaw + 90) * (float)Math.PI / 180);
-
-			double posY = player.posY + player.height
-					- CraneRegistry.instance.getCraneMagnetDistance(player);
+			CraneRegistry.Data data = CraneRegistry.instance.getData(player);
+			CraneType type = ItemCraneBackpack.getCraneType(player);
+			if (data == null || type == null) return null;
 
-			return Vec3.createVectorHelper(posX, posY, posZ);
+			data.getArmTarget(player, type, target);
+			return target;
 		}
 
 		@Override
-		public EntityBlock createByPlayer(IEntityBlockFactory factory) {
+		public Entity createByPlayer(IEntityBlockFactory factory) {
 			EntityPlayer player = owner.get();
 			if (player == null) return null;
 
@@ -90,6 +89,16 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 	public static class PlayerBound extends EntityMagnet implements IEntityLoadListener {
 		private WeakReference<Entity> owner;
 
+		// initial crane state, until owner is loaded on client
+		private double initialLength;
+		private boolean initialExtending;
+		private float initialYaw;
+
+		@SideOnly(Side.CLIENT)
+		private Vec3 clientTarget;
+
+		private boolean isFollowingOwner;
+
 		public PlayerBound(World world) {
 			super(world);
 			owner = new WeakReference<Entity>(null);
@@ -106,12 +115,20 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 			super.writeSpawnData(data);
 			Entity owner = this.owner.get();
 			data.writeInt(owner != null? owner.getEntityId() : -1);
+
+			CraneRegistry.Data crane = (owner instanceof EntityPlayer)? CraneRegistry.instance.getData((EntityPlayer)owner) : null;
+			data.writeFloat(crane != null? (float)crane.getLength() : 0);
+			data.writeBoolean(crane != null && crane.isExtending());
+			data.writeFloat(crane != null? crane.getYaw() : 0);
 		}
 
 		@Override
 		public void readSpawnData(ByteBuf data) {
 			super.readSpawnData(data);
 			int entityId = data.readInt();
+			initialLength = data.readFloat();
+			initialExtending = data.readBoolean();
+			initialYaw = data.readFloat();
 			if (entityId >= 0) DelayedEntityLoadManager.instance.registerLoadListener(worldObj, this, entityId);
 		}
 
@@ -125,8 +142,41 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 			if (entity instanceof EntityPlayer) {
 				owner = new WeakReference<Entity>(entity);
 				CraneRegistry.instance.bindMagnetToPlayer(entity, this);
+
+				CraneRegistry.Data data = CraneRegistry.instance.getData((EntityPlayer)entity);
+				if (data != null) data.setInitialState(initialLength, initialExtending, initialYaw);
 			}
 		}
+
+		@SideOnly(Side.CLIENT)
+		private boolean followOwner() {
+			final Entity owner = this.owner.get();
+			if (!(owner instanceof EntityPlayer)) return false;
+
+			final EntityPlayer player = (EntityPlayer)owner;
+			final CraneRegistry.Data data = CraneRegistry.instance.getData(player);
+			final CraneType type = ItemCraneBackpack.getCraneType(player);
+			if (data == null || type == null) return false;
+
+			if (clientTarget == null) clientTarget = Vec3.createVectorHelper(0, 0, 0);
+			data.updateClient();
+			data.getArmTarget(player, type, clientTarget);
+			smoother.setTarget(clientTarget.xCoord, clientTarget.yCoord - height, clientTarget.zCoord);
+			return true;
+		}
+
+		@Override
+		public void onUpdate() {
+			if (worldObj.isRemote) isFollowingOwner = followOwner();
+			super.onUpdate();
+		}
+
+		@Override
+		@SideOnly(Side.CLIENT)
+		public void setPositionAndRotation2(double x, double y, double z, float yaw, float pitch, int something) {
+			// position is calculated from crane state, server updates would only cause jitter
+			if (!isFollowingOwner) super.setPositionAndRotation2(x, y, z, yaw, pitch, something);
+		}
 	}
 
 	private IOwner owner;
@@ -143,7 +193,7 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 		this.owner = owner;
 		this.isMagic = isMagic;
 		Vec3 initialTarget = owner.getTarget();
-		setPosition(initialTarget.xCoord, initialTarget.yCoord, initialTarget.zCoord);
+		if (initialTarget != null) setPosition(initialTarget.xCoord, initialTarget.yCoord, initialTarget.zCoord);
 	}
 
 	@Override
@@ -186,9 +236,9 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 			if (owner == null || !owner.isValid(this)) {
 				setDead();
 				return;
-			} else if (owner != null) {
-				final Vec3 target = owner.getTarget().addVector(0, -height, 0);
-				smoother.setTarget(target);
+			} else {
+				final Vec3 target = owner.getTarget();
+				if (target != null) smoother.setTarget(target.xCoord, target.yCoord - height, target.zCoord);
 			}
 		}
 
@@ -301,11 +351,13 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 		Entity result = null;
 
 		if (MagnetWhitelists.instance.testBlock(worldObj, x, y, z)) {
+			final int radius = Config.magnetPickRadius;
 			result = owner.createByPlayer(new IEntityBlockFactory() {
 
 				@Override
-				public EntityBlock create(EntityPlayer player) {
-					return EntityBlock.create(player, worldObj, x, y, z, EntityMountedBlock.class);
+				public Entity create(EntityPlayer player) {
+					if (radius <= 0) return EntityBlock.create(player, worldObj, x, y, z, EntityMountedBlock.class);
+					return createBlockSwarm(player, x, y, z, radius);
 				}
 			});
 		}
@@ -318,6 +370,21 @@ public class EntityMagnet extends EntitySmoothMove implements IEntityAdditionalS
 		return result;
 	}
 
+	private EntityBlockSwarm createBlockSwarm(EntityPlayer player, int x, int y, int z, int radius) {
+		EntityBlockSwarm swarm = new EntityBlockSwarm(worldObj, x + 0.5, y, z + 0.5, EntityBlockSwarm.Mode.CARRIED);
+
+		for (int dx = -radius; dx <= radius; dx++)
+			for (int dz = -radius; dz <= radius; dz++) {
+				final int blockX = x + dx;
+				final int blockZ = z + dz;
+				if (worldObj.blockExists(blockX, y, blockZ) &&
+						!worldObj.isAirBlock(blockX, y, blockZ) &&
+						MagnetWhitelists.instance.testBlock(worldObj, blockX, y, blockZ)) swarm.addBlock(player, blockX, y, blockZ);
+			}
+
+		return swarm.members.isEmpty()? null : swarm;
+	}
+
 	@Override
 	public boolean shouldRiderSit() {
 		return false;
@@ -0,0 +1,151 @@
+package openblocks.common.entity;
+
+import java.util.List;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.material.Material;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import openblocks.Config;
+import openmods.Log;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterables;
+
+/**
+ * Glider movement, calculated only from player state (motion, head yaw, sneaking, ground contact) and world.
+ * Server and gliding client use same lookup-table trigonometry, so they end up with same results. Ground contact must be known locally, so it's not used for other players on client.
+ */
+public class GliderFlightModel {
+
+	private static final int MAX_THERMAL_RANGE = 64;
+
+	// max upward speed caused by lift, so gliders don't turn into rockets
+	private static final double MAX_LIFT_SPEED = 0.2;
+
+	private static class LiftZone {
+		public final int dimension;
+		public final double x;
+		public final double z;
+		public final double radiusSq;
+		public final double strength;
+
+		public LiftZone(int dimension, double x, double z, double radius, double strength) {
+			this.dimension = dimension;
+			this.x = x;
+			this.z = z;
+			this.radiusSq = radius * radius;
+			this.strength = strength;
+		}
+	}
+
+	private static String[] parsedZonesSource;
+
+	private static List<LiftZone> liftZones = ImmutableList.of();
+
+	private static List<LiftZone> getLiftZones() {
+		final String[] source = Config.gliderLiftZones;
+		if (source != parsedZonesSource) {
+			ImmutableList.Builder<LiftZone> zones = ImmutableList.builder();
+			for (String entry : source) {
+				try {
+					String[] parts = Iterables.toArray(Splitter.on(':').trimResults().split(entry), String.class);
+					zones.add(new LiftZone(
+							Integer.parseInt(parts[0]),
+							Double.parseDouble(parts[1]),
+							Double.parseDouble(parts[2]),
+							Double.parseDouble(parts[3]),
+							Double.parseDouble(parts[4])));
+				} catch (Exception e) {
+					Log.warn(e, "Invalid glider lift zone entry: '%s'", entry);
+				}
+			}
+			liftZones = zones.build();
+			parsedZonesSource = source;
+		}
+		return liftZones;
+	}
+
+	// cached column scan, recalculated when player enters different block
+	private int thermalX;
+	private int thermalY = -1;
+	private int thermalZ;
+	private double thermalLift;
+
+	private static boolean isHot(Block block) {
+		return block.getMaterial() == Material.lava || block.getMaterial() == Material.fire;
+	}
+
+	private double getThermalLift(World world, int x, int y, int z) {
+		if (x == thermalX && y == thermalY && z == thermalZ) return thermalLift;
+
+		thermalX = x;
+		thermalY = y;
+		thermalZ = z;
+		thermalLift = 0;
+
+		final double strength = Config.gliderThermalStrength;
+		final int range = Math.min(Config.gliderThermalRange, MAX_THERMAL_RANGE);
+		if (strength <= 0 || range <= 0) return 0;
+
+		for (int dy = 1; dy <= range && y - dy >= 0; dy++) {
+			final Block block = world.getBlock(x, y - dy, z);
+			if (isHot(block)) {
+				thermalLift = strength * (1 - (double)(dy - 1) / range);
+				break;
+			}
+			// hot air does not go through solid blocks
+			if (block.getMaterial().blocksMovement()) break;
+		}
+
+		return thermalLift;
+	}
+
+	private static double getZoneLift(World world, double x, double z) {
+		final int dimension = world.provider.dimensionId;
+		double result = 0;
+		for (LiftZone zone : getLiftZones()) {
+			if (zone.dimension != dimension) continue;
+			final double dx = x - zone.x;
+			final double dz = z - zone.z;
+			if (dx * dx + dz * dz <= zone.radiusSq) result += zone.strength;
+		}
+		return result;
+	}
+
+	public static boolean isGrounded(EntityPlayer player) {
+		return player.onGround || player.isInWater();
+	}
+
+	public void update(EntityPlayer player) {
+		if (isGrounded(player)) return;
+
+		final World world = player.worldObj;
+		final double lift = getThermalLift(world, MathHelper.floor_double(player.posX), MathHelper.floor_double(player.posY), MathHelper.floor_double(player.posZ)) +
+				getZoneLift(world, player.posX, player.posZ);
+
+		if (player.motionY < 0) {
+			final double horizontalSpeed;
+			final double verticalSpeed;
+
+			if (player.isSneaking()) {
+				horizontalSpeed = 0.1;
+				verticalSpeed = 0.7;
+			} else {
+				horizontalSpeed = 0.03;
+				verticalSpeed = 0.4;
+			}
+
+			player.motionY *= verticalSpeed;
+			final float yaw = (player.rotationYawHead + 90) * (float)Math.PI / 180;
+			player.motionX += MathHelper.cos(yaw) * horizontalSpeed;
+			player.motionZ += MathHelper.sin(yaw) * horizontalSpeed;
+		}
+
+		if (lift > 0 && player.motionY < MAX_LIFT_SPEED) player.motionY = Math.min(player.motionY + lift, MAX_LIFT_SPEED);
+
+		player.fallDistance = 0f; /* Don't like getting hurt :( */
+	}
+}
@@ -0,0 +1,92 @@
+package openblocks.common.entity;
+
+import java.util.List;
+import java.util.Map;
+
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Collects items landed by {@link EntityItemProjectile} and spawns them at the end of tick, merging stacks that landed in same block.
+ * Projectiles don't merge in flight, so stream of items from cannon ends as few entities.
+ */
+public class ProjectileLandingMerger {
+
+	private static long cellKey(int x, int y, int z) {
+		return ((x & 0x3FFFFFFL) << 38) | ((y & 0xFFFL) << 26) | (z & 0x3FFFFFFL);
+	}
+
+	public static final ProjectileLandingMerger instance = new ProjectileLandingMerger();
+
+	private final Map<World, Map<Long, List<EntityItem>>> landed = new MapMaker().weakKeys().makeMap();
+
+	private ProjectileLandingMerger() {}
+
+	private static boolean tryMerge(EntityItem target, ItemStack stack) {
+		final ItemStack targetStack = target.getEntityItem();
+		if (targetStack == null ||
+				targetStack.getItem() != stack.getItem() ||
+				targetStack.getItemDamage() != stack.getItemDamage() ||
+				!targetStack.isStackable() ||
+				!ItemStack.areItemStackTagsEqual(targetStack, stack) ||
+				targetStack.stackSize + stack.stackSize > targetStack.getMaxStackSize()) return false;
+
+		targetStack.stackSize += stack.stackSize;
+		target.setEntityItemStack(targetStack);
+		return true;
+	}
+
+	public void addLandedItem(EntityItem item) {
+		final World world = item.worldObj;
+		final ItemStack stack = item.getEntityItem();
+		if (stack == null) return;
+
+		Map<Long, List<EntityItem>> cells = landed.get(world);
+		if (cells == null) {
+			cells = Maps.newHashMap();
+			landed.put(world, cells);
+		}
+
+		final long key = cellKey(MathHelper.floor_double(item.posX), MathHelper.floor_double(item.posY), MathHelper.floor_double(item.posZ));
+		List<EntityItem> items = cells.get(key);
+		if (items == null) {
+			items = Lists.newArrayList();
+			cells.put(key, items);
+		}
+
+		for (EntityItem other : items)
+			if (tryMerge(other, stack)) return;
+
+		items.add(item);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		landed.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+
+		final Map<Long, List<EntityItem>> cells = landed.get(evt.world);
+		if (cells == null || cells.isEmpty()) return;
+
+		for (List<EntityItem> items : cells.values())
+			for (EntityItem item : items)
+				evt.world.spawnEntityInWorld(item);
+
+		cells.clear();
+	}
+}
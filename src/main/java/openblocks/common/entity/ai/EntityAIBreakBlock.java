@@ -27,19 +27,37 @@ public class EntityAIBreakBlock extends EntityAIBase {
 	private int tickOffset = 0;
 	private Random rand;
 
+	private static final int MIN_SEARCH_INTERVAL = 4;
+
+	private static final int MAX_SEARCH_INTERVAL = 64;
+
+	private int searchInterval = MIN_SEARCH_INTERVAL;
+
+	private int lastSearchX;
+	private int lastSearchY;
+	private int lastSearchZ;
+
 	public EntityAIBreakBlock(EntityLiving minime) {
 		this.entity = minime;
 		this.pathFinder = minime.getNavigator();
 		setMutexBits(3);
 		rand = new Random(minime.getEntityId());
-		tickOffset = rand.nextInt(10);
+		tickOffset = rand.nextInt(MAX_SEARCH_INTERVAL);
+	}
+
+	private boolean hasMovedSinceLastSearch() {
+		return (int)entity.posX != lastSearchX || (int)entity.posY != lastSearchY || (int)entity.posZ != lastSearchZ;
 	}
 
 	@Override
 	public boolean shouldExecute() {
 		if (!pathFinder.noPath()) return false;
-		boolean hasTicked = (OpenMods.proxy.getTicks(entity.worldObj) + tickOffset) % 4 == 0;
-		if (hasTicked && entity.worldObj != null && !entity.worldObj.isRemote) {
+		if (entity.worldObj == null || entity.worldObj.isRemote) return false;
+
+		// nothing found around, so wait longer before next try, unless entity moved
+		if (hasMovedSinceLastSearch()) searchInterval = MIN_SEARCH_INTERVAL;
+		boolean hasTicked = (OpenMods.proxy.getTicks(entity.worldObj) + tickOffset) % searchInterval == 0;
+		if (hasTicked) {
 			for (int i = 0; i < 20; i++) {
 				int x = rand.nextInt(16) - 8;
 				int y = rand.nextInt(3) - 1;
@@ -49,9 +67,17 @@ public class EntityAIBreakBlock extends EntityAIBase {
 						(int)(y + entity.posY),
 						(int)(z + entity.posZ)
 						);
-				if (canHarvestBlock(blockCoord)) { return true; }
+				if (canHarvestBlock(blockCoord)) {
+					searchInterval = MIN_SEARCH_INTERVAL;
+					return true;
+				}
 				blockCoord = null;
 			}
+
+			lastSearchX = (int)entity.posX;
+			lastSearchY = (int)entity.posY;
+			lastSearchZ = (int)entity.posZ;
+			searchInterval = Math.min(2 * searchInterval, MAX_SEARCH_INTERVAL);
 		}
 		return false;
 	}
@@ -19,35 +19,66 @@ public class EntityAICollectItem extends EntityAIBase {
 
 	private EntityItem targetItem = null;
 
+	private static final int RESCAN_INTERVAL = 20 * 5;
+
+	private static final double SEARCH_RANGE = 11;
+
+	private static final double SCAN_MOVE_THRESHOLD = 2;
+
+	private long lastScanTime = Long.MIN_VALUE;
+
+	private int lastScanInventoryVersion;
+
+	private double lastScanX;
+
+	private double lastScanZ;
+
 	public EntityAICollectItem(EntityLuggage luggage) {
 		this.luggage = luggage;
 		this.pathFinder = luggage.getNavigator();
 		setMutexBits(3);
 	}
 
+	private boolean needsScan() {
+		final long now = luggage.worldObj.getTotalWorldTime();
+		if (now - lastScanTime >= RESCAN_INTERVAL) return true;
+		if (luggage.getInventoryVersion() != lastScanInventoryVersion) return true;
+		if (Math.abs(luggage.posX - lastScanX) > SCAN_MOVE_THRESHOLD || Math.abs(luggage.posZ - lastScanZ) > SCAN_MOVE_THRESHOLD) return true;
+		return NearbyItemTracker.instance.getLastChange(luggage.worldObj, luggage.posX, luggage.posZ, SEARCH_RANGE) >= lastScanTime;
+	}
+
 	@Override
 	public boolean shouldExecute() {
 		if (!pathFinder.noPath()) { return false; }
 		if (luggage.worldObj != null) {
+			if (!needsScan()) return false;
+
 			@SuppressWarnings("unchecked")
 			List<EntityItem> items = luggage.worldObj.getEntitiesWithinAABB(EntityItem.class, AxisAlignedBB.getBoundingBox(luggage.posX - 1, luggage.posY - 1, luggage.posZ - 1, luggage.posX + 1, luggage.posY + 1, luggage.posZ + 1).expand(10.0, 10.0, 10.0));
 			EntityItem closest = null;
 			double closestDistance = Double.MAX_VALUE;
 			for (EntityItem item : items) {
 				if (!item.isDead && item.onGround) {
-					double dist = item.getDistanceToEntity(luggage);
+					double dist = item.getDistanceSqToEntity(luggage);
 					if (dist < closestDistance
-							&& luggage.canConsumeStackPartially(item.getEntityItem())
-							&& !item.isInWater()) {
+							&& !item.isInWater()
+							&& luggage.canConsumeStackPartially(item.getEntityItem())) {
 						closest = item;
 						closestDistance = dist;
 					}
 				}
 			}
 			if (closest != null) {
+				// scan again after this one is collected
+				lastScanTime = Long.MIN_VALUE;
 				targetItem = closest;
 				return true;
 			}
+
+			lastScanTime = luggage.worldObj.getTotalWorldTime();
+			lastScanInventoryVersion = luggage.getInventoryVersion();
+			lastScanX = luggage.posX;
+			lastScanZ = luggage.posZ;
 		}
 		return false;
 	}
@@ -81,6 +112,8 @@ public class EntityAICollectItem extends EntityAIBase {
 				ItemDistribution.insertItemIntoInventory(luggage.getInventory(), stack);
 				// Check that the size changed
 				if (preEatSize != stack.stackSize) {
+					// legacy insertion may modify slots in place without notifying
+					luggage.getInventory().markDirty();
 					if (luggage.lastSound > 15) {
 						boolean isFood = stack.getItem() instanceof ItemFood;
 						luggage.playSound(isFood? "openblocks:luggage.eat.food" : "openblocks:luggage.eat.item",
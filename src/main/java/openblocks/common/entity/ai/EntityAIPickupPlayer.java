@@ -1,13 +1,10 @@
 package openblocks.common.entity.ai;
 
-import java.util.List;
-
 import net.minecraft.entity.ai.EntityAIBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.pathfinding.PathNavigate;
 import net.minecraft.world.World;
 import openblocks.common.entity.EntityMiniMe;
-import openmods.utils.WorldUtils;
 
 import com.mojang.authlib.GameProfile;
 
@@ -29,12 +26,14 @@ public class EntityAIPickupPlayer extends EntityAIBase {
 		if (!pathFinder.noPath()) return false;
 
 		if (!minime.worldObj.isRemote) {
-			List<EntityPlayer> players = WorldUtils.getEntitiesWithinAABB(minime.worldObj, EntityPlayer.class, minime.boundingBox.expand(10, 10, 10));
-			for (EntityPlayer player : players) {
-				if (canRidePlayer(player)) {
-					targetPlayer = player;
-					return true;
-				}
+			// only owner is interesting, so no need to search area
+			final GameProfile owner = minime.getOwner();
+			if (owner == null || owner.getId() == null) return false;
+
+			final EntityPlayer player = minime.worldObj.func_152378_a(owner.getId());
+			if (player != null && canRidePlayer(player) && player.boundingBox.intersectsWith(minime.boundingBox.expand(10, 10, 10))) {
+				targetPlayer = player;
+				return true;
 			}
 		}
 		return false;
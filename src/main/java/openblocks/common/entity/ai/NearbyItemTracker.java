@@ -0,0 +1,141 @@
+package openblocks.common.entity.ai;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.item.EntityItem;
+import net.minecraft.util.MathHelper;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.world.WorldEvent;
+import openblocks.common.EntityJoinDispatcher.IJoinListener;
+import openblocks.common.WorldListenerAdapter;
+
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+import cpw.mods.fml.common.eventhandler.SubscribeEvent;
+import cpw.mods.fml.common.gameevent.TickEvent;
+import cpw.mods.fml.common.gameevent.TickEvent.Phase;
+
+/**
+ * Remembers when items last appeared (spawned or landed) in every chunk, so item collecting AIs only have to search world after something changed around them.
+ */
+public class NearbyItemTracker implements IJoinListener {
+
+	// items still in air after that are probably floating and not interesting anyway
+	private static final int MAX_FALL_TICKS = 20 * 30;
+
+	private static long chunkKey(int chunkX, int chunkZ) {
+		return ((long)chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+	}
+
+	private static class WorldState extends WorldListenerAdapter {
+		private final Map<Long, Long> chunkChanges = Maps.newHashMap();
+
+		// items unloaded with chunk are removed by listener and added again when chunk is loaded
+		private final Set<EntityItem> fallingItems = Sets.newHashSet();
+
+		@Override
+		public void onEntityDestroy(Entity entity) {
+			fallingItems.remove(entity);
+		}
+
+		public void markChanged(EntityItem item, long now) {
+			final int chunkX = MathHelper.floor_double(item.posX) >> 4;
+			final int chunkZ = MathHelper.floor_double(item.posZ) >> 4;
+			chunkChanges.put(chunkKey(chunkX, chunkZ), now);
+		}
+
+		public void update(long now) {
+			final Iterator<EntityItem> it = fallingItems.iterator();
+			while (it.hasNext()) {
+				final EntityItem item = it.next();
+				if (item.isDead || item.age > MAX_FALL_TICKS) it.remove();
+				else if (item.onGround) {
+					markChanged(item, now);
+					it.remove();
+				}
+			}
+		}
+
+		public long getLastChange(int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ) {
+			long result = Long.MIN_VALUE;
+			for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+				for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+					final Long time = chunkChanges.get(chunkKey(chunkX, chunkZ));
+					if (time != null && time > result) result = time;
+				}
+			return result;
+		}
+
+		public void pruneOlderThan(long time) {
+			final Iterator<Long> it = chunkChanges.values().iterator();
+			while (it.hasNext())
+				if (it.next() < time) it.remove();
+		}
+	}
+
+	public static final NearbyItemTracker instance = new NearbyItemTracker();
+
+	// AIs rescan periodically anyway, so older entries are useless
+	public static final int MAX_CHANGE_AGE = 20 * 10;
+
+	private final Map<World, WorldState> states = new MapMaker().weakKeys().makeMap();
+
+	private NearbyItemTracker() {}
+
+	private WorldState getState(World world) {
+		WorldState state = states.get(world);
+		if (state == null) {
+			state = new WorldState();
+			states.put(world, state);
+			world.addWorldAccess(state);
+		}
+		return state;
+	}
+
+	/**
+	 * @return world time of last item spawn or landing in area, or {@link Long#MIN_VALUE} if nothing happened recently
+	 */
+	public long getLastChange(World world, double x, double z, double range) {
+		final WorldState state = states.get(world);
+		if (state == null) return Long.MIN_VALUE;
+
+		return state.getLastChange(
+				MathHelper.floor_double(x - range) >> 4,
+				MathHelper.floor_double(z - range) >> 4,
+				MathHelper.floor_double(x + range) >> 4,
+				MathHelper.floor_double(z + range) >> 4);
+	}
+
+	@Override
+	public void onEntityJoinWorld(EntityJoinWorldEvent evt) {
+		if (evt.world.isRemote || !(evt.entity instanceof EntityItem)) return;
+
+		final EntityItem item = (EntityItem)evt.entity;
+		final WorldState state = getState(evt.world);
+		if (item.onGround) state.markChanged(item, evt.world.getTotalWorldTime());
+		else state.fallingItems.add(item);
+	}
+
+	@SubscribeEvent
+	public void onWorldUnload(WorldEvent.Unload evt) {
+		states.remove(evt.world);
+	}
+
+	@SubscribeEvent
+	public void onWorldTick(TickEvent.WorldTickEvent evt) {
+		if (evt.phase != Phase.END || evt.world.isRemote) return;
+
+		final WorldState state = states.get(evt.world);
+		if (state != null) {
+			final long now = evt.world.getTotalWorldTime();
+			state.update(now);
+			if (now % MAX_CHANGE_AGE == 0) state.pruneOlderThan(now - MAX_CHANGE_AGE);
+		}
+	}
+}
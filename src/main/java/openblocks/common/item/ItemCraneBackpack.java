@@ -5,6 +5,7 @@ import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemArmor;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.AxisAlignedBB;
@@ -14,6 +15,7 @@ import openblocks.Config;
 import openblocks.OpenBlocks;
 import openblocks.client.model.ModelCraneBackpack;
 import openblocks.common.CraneRegistry;
+import openblocks.common.CraneRegistry.CraneType;
 import openmods.infobook.BookDocumentation;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -66,29 +68,39 @@ public class ItemCraneBackpack extends ItemArmor {
 
 	@Override
 	public void onArmorTick(World world, EntityPlayer player, ItemStack itemStack) {
-		CraneRegistry.Data data = CraneRegistry.instance.getData(player, true);
-		if (!world.isRemote) CraneRegistry.instance.ensureMagnetExists(player);
+		CraneRegistry.Data data = CraneRegistry.instance.getData(player);
+		if (data == null) return;
+
+		if (world.isRemote) {
+			data.setLocalYaw(player.rotationYaw);
+		} else {
+			CraneRegistry.instance.ensureMagnetExists(player);
+			if (player instanceof EntityPlayerMP) data.updateServer((EntityPlayerMP)player);
+		}
 
 		if (Config.doCraneCollisionCheck) {
-			boolean isColliding = isPointInBlock(world, player, CraneRegistry.ARM_RADIUS)
-					|| isPointInBlock(world, player, 2 * CraneRegistry.ARM_RADIUS / 3)
-					|| isPointInBlock(world, player, CraneRegistry.ARM_RADIUS / 3);
-
-			if (isColliding) {
-				player.rotationYaw = data.prevYaw;
-				player.posX = data.prevPosX;
-				player.posY = data.prevPosY;
-				player.posZ = data.prevPosZ;
-				player.motionX = player.motionY = player.motionZ = 0;
-			} else {
-				data.prevYaw = player.rotationYaw;
-				data.prevPosX = player.posX;
-				data.prevPosY = player.posY;
-				data.prevPosZ = player.posZ;
-			}
+			final double armRadius = getCraneType(itemStack).armRadius;
+			boolean isColliding = isPointInBlock(world, player, armRadius)
+					|| isPointInBlock(world, player, 2 * armRadius / 3)
+					|| isPointInBlock(world, player, armRadius / 3);
+
+			if (isColliding) data.restoreSafePosition(player);
+			else data.storeSafePosition(player);
 		}
 	}
 
+	/**
+	 * Override to create crane variants with different reach or speed
+	 */
+	public CraneType getCraneType(ItemStack stack) {
+		return CraneType.DEFAULT;
+	}
+
+	public static CraneType getCraneType(EntityPlayer player) {
+		ItemStack armor = player.getCurrentArmor(2);
+		return (armor != null && armor.getItem() instanceof ItemCraneBackpack)? ((ItemCraneBackpack)armor.getItem()).getCraneType(armor) : null;
+	}
+
 	public static boolean isWearingCrane(EntityPlayer player) {
 		ItemStack armor = player.getCurrentArmor(2);
 		return armor != null && armor.getItem() instanceof ItemCraneBackpack;
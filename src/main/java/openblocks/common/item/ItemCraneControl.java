@@ -15,6 +15,7 @@ import net.minecraft.world.World;
 import openblocks.Config;
 import openblocks.OpenBlocks;
 import openblocks.common.CraneRegistry;
+import openblocks.common.CraneRegistry.CraneType;
 import openblocks.common.entity.EntityMagnet;
 import openmods.OpenMods;
 import openmods.infobook.BookDocumentation;
@@ -68,10 +69,10 @@ public class ItemCraneControl extends Item {
 
 	@Override
 	public ItemStack onItemRightClick(ItemStack stack, World world, EntityPlayer player) {
-		CraneRegistry.Data data = CraneRegistry.instance.getData(player, false);
+		CraneRegistry.Data data = CraneRegistry.instance.getData(player);
 
 		if (data != null) {
-			data.isExtending = Config.craneShiftControl? player.isSneaking() : !data.isExtending;
+			data.setExtending(Config.craneShiftControl? player.isSneaking() : !data.isExtending());
 		}
 
 		player.setItemInUse(stack, getMaxItemUseDuration(stack));
@@ -80,10 +81,10 @@ public class ItemCraneControl extends Item {
 
 	@Override
 	public void onUsingTick(ItemStack stack, EntityPlayer player, int count) {
-		if (player instanceof EntityPlayerMP
-				&& ItemCraneBackpack.isWearingCrane(player)) {
-			CraneRegistry.Data data = CraneRegistry.instance.getData(player, true);
-			data.updateLength();
+		if (player instanceof EntityPlayerMP) {
+			CraneType type = ItemCraneBackpack.getCraneType(player);
+			CraneRegistry.Data data = CraneRegistry.instance.getData(player);
+			if (type != null && data != null) data.updateLength(type);
 		}
 	}
 
@@ -105,9 +106,9 @@ public class ItemCraneControl extends Item {
 	@Override
 	public IIcon getIcon(ItemStack stack, int renderPass, EntityPlayer player, ItemStack usingItem, int useRemaining) {
 		if (player != null && ItemCraneBackpack.isWearingCrane(player)) {
-			CraneRegistry.Data data = CraneRegistry.instance.getData(player, false);
+			CraneRegistry.Data data = CraneRegistry.instance.getData(player);
 			if (data != null) {
-				if (usingItem == stack) { return data.isExtending? iconDown : iconUp; }
+				if (usingItem == stack) { return data.isExtending()? iconDown : iconUp; }
 
 				EntityMagnet magnet = CraneRegistry.instance.getMagnetForPlayer(player);
 
@@ -17,10 +17,10 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServer;
 import openblocks.Config;
 import openblocks.OpenBlocks;
+import openblocks.common.StructureLocationIndex;
 import openblocks.common.entity.EntityGoldenEye;
 import openmods.Log;
 import openmods.utils.ItemUtils;
-import openmods.world.StructureRegistry;
 
 import com.google.common.base.Strings;
 
@@ -52,7 +52,7 @@ public class ItemGoldenEye extends Item {
 	}
 
 	private static void tryLearnStructure(ItemStack stack, WorldServer world, EntityPlayerMP player) {
-		Map<String, ChunkPosition> nearbyStructures = StructureRegistry.instance.getNearestStructures(world, (int)player.posX, (int)player.posY, (int)player.posZ);
+		Map<String, ChunkPosition> nearbyStructures = StructureLocationIndex.queryAllStructures(world, (int)player.posX, (int)player.posY, (int)player.posZ);
 
 		String structureName = "";
 		double max = Double.MAX_VALUE;
@@ -90,9 +90,7 @@ public class ItemGoldenEye extends Item {
 
 		if (Strings.isNullOrEmpty(structureName)) return false;
 
-		Map<String, ChunkPosition> nearbyStructures = StructureRegistry.instance.getNearestStructures(world, (int)player.posX, (int)player.posY, (int)player.posZ);
-
-		ChunkPosition structurePos = nearbyStructures.get(structureName);
+		ChunkPosition structurePos = StructureLocationIndex.findNearestStructure(world, structureName, (int)player.posX, (int)player.posY, (int)player.posZ);
 		if (structurePos != null) {
 			if (Config.eyeDebug) player.addChatComponentMessage(new ChatComponentTranslation(
 					"openblocks.misc.structure_pos", structureName, structurePos.chunkPosX, structurePos.chunkPosY, structurePos.chunkPosZ));
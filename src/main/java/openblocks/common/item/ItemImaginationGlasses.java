@@ -92,27 +92,27 @@ public class ItemImaginationGlasses extends ItemArmor {
 	public enum Type {
 		PENCIL("pencil") {
 			@Override
-			protected boolean checkBlock(Property property, ItemStack stack, TileEntityImaginary te) {
-				return te.isPencil() ^ te.isInverted();
+			public boolean checkBlock(Property property, int glassesColor, Integer blockColor, boolean isInverted) {
+				return (blockColor == null) ^ isInverted;
 			}
 		},
 		CRAYON("crayon") {
 			@Override
-			protected boolean checkBlock(Property property, ItemStack stack, TileEntityImaginary te) {
-				return (!te.isPencil() && getGlassesColor(stack) == te.color)
-						^ te.isInverted();
+			public boolean checkBlock(Property property, int glassesColor, Integer blockColor, boolean isInverted) {
+				return (blockColor != null && glassesColor == blockColor)
+						^ isInverted;
 			}
 		},
 		TECHNICOLOR("technicolor") {
 			@Override
-			protected boolean checkBlock(Property property, ItemStack stack, TileEntityImaginary te) {
+			public boolean checkBlock(Property property, int glassesColor, Integer blockColor, boolean isInverted) {
 				if (property == Property.VISIBLE) return true;
-				return te.isInverted();
+				return isInverted;
 			}
 		},
 		BASTARD("admin") {
 			@Override
-			protected boolean checkBlock(Property property, ItemStack stack, TileEntityImaginary te) {
+			public boolean checkBlock(Property property, int glassesColor, Integer blockColor, boolean isInverted) {
 				return true;
 			}
 		};
@@ -126,7 +126,11 @@ public class ItemImaginationGlasses extends ItemArmor {
 					+ ".png";
 		}
 
-		protected abstract boolean checkBlock(Property property, ItemStack stack, TileEntityImaginary te);
+		/**
+		 * @param blockColor
+		 *            color of crayon block or null for pencil
+		 */
+		public abstract boolean checkBlock(Property property, int glassesColor, Integer blockColor, boolean isInverted);
 
 		public static final Type[] VALUES = values();
 	}
@@ -148,7 +152,7 @@ public class ItemImaginationGlasses extends ItemArmor {
 	}
 
 	public boolean checkBlock(Property property, ItemStack stack, TileEntityImaginary te) {
-		return type.checkBlock(property, stack, te);
+		return type.checkBlock(property, getGlassesColor(stack), te.color, te.isInverted());
 	}
 
 	@Override
@@ -71,7 +71,10 @@ public class ItemPedometer extends Item {
 
 		send(player, "openblocks.misc.pedometer.speed", speedUnit.format(result.currentSpeed));
 		send(player, "openblocks.misc.pedometer.avg_speed", speedUnit.format(result.averageSpeed()));
+		send(player, "openblocks.misc.pedometer.rolling_speed", PedometerState.ROLLING_WINDOW / 20, speedUnit.format(result.rollingSpeed));
+		send(player, "openblocks.misc.pedometer.peak_speed", speedUnit.format(result.peakSpeed));
 		send(player, "openblocks.misc.pedometer.total_distance", distanceUnit.format(result.totalDistance));
+		send(player, "openblocks.misc.pedometer.vertical_distance", distanceUnit.format(result.verticalDistance));
 
 		send(player, "openblocks.misc.pedometer.straght_line_distance", distanceUnit.format(result.straightLineDistance));
 		send(player, "openblocks.misc.pedometer.straigh_line_speed", speedUnit.format(result.straightLineSpeed()));
@@ -2,13 +2,14 @@ package openblocks.common.item;
 
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.IIcon;
 import net.minecraft.util.MathHelper;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
 import openblocks.OpenBlocks;
+import openblocks.common.SlimeChunkCache;
 import openmods.infobook.BookDocumentation;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
@@ -39,9 +40,10 @@ public class ItemSlimalyzer extends Item {
 	public void onUpdate(ItemStack stack, World world, Entity entity, int par4, boolean par5) {
 		if (!world.isRemote) {
 			if (entity != null) {
-				Chunk chunk = world.getChunkFromBlockCoords(MathHelper.floor_double(entity.posX), MathHelper.floor_double(entity.posZ));
+				final int chunkX = MathHelper.floor_double(entity.posX) >> 4;
+				final int chunkZ = MathHelper.floor_double(entity.posZ) >> 4;
 				int previousDamage = stack.getItemDamage();
-				stack.setItemDamage(chunk.getRandomWithSeed(987234911L).nextInt(10) == 0? 1 : 0);
+				stack.setItemDamage(SlimeChunkCache.instance.isSlimeChunk(world, chunkX, chunkZ)? 1 : 0);
 				if (previousDamage != stack.getItemDamage()
 						&& previousDamage == 0) {
 					world.playSoundAtEntity(entity, "openblocks:slimalyzer.signal", 1F, 1F);
@@ -52,4 +54,10 @@ public class ItemSlimalyzer extends Item {
 		}
 	}
 
+	@Override
+	public ItemStack onItemRightClick(ItemStack stack, World world, EntityPlayer player) {
+		if (!world.isRemote) SlimeChunkCache.instance.sendNearbySlimeChunks(player);
+		return stack;
+	}
+
 }
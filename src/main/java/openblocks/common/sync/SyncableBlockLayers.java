@@ -1,6 +1,7 @@
 package openblocks.common.sync;
 
 import java.io.*;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -161,6 +162,38 @@ public class SyncableBlockLayers extends SyncableObjectBase {
 		for (int i = 0; i < size; i++) {
 			layers.add(Layer.createFromNBT(subTag.getCompoundTag("layer_" + i)));
 		}
+		removeCoveredLayers();
+	}
+
+	private static boolean isPainted(Layer layer) {
+		return layer.stencil != null && !layer.hasStencilCover;
+	}
+
+	private static boolean hasSameMask(Layer a, Layer b) {
+		return a.stencil == b.stencil && a.rotation == b.rotation;
+	}
+
+	/**
+	 * Painted layer is invisible when any later painted layer uses same stencil with same rotation.
+	 * Removing such layers keeps stacks (and sync packets, and rendered faces) from growing on repainted murals.
+	 */
+	private boolean removeCoveredLayers() {
+		final boolean[] seenMasks = new boolean[Stencil.values().length * 4];
+		boolean changed = false;
+
+		final Iterator<Layer> it = layers.descendingIterator();
+		while (it.hasNext()) {
+			final Layer layer = it.next();
+			if (!isPainted(layer)) continue;
+
+			final int mask = layer.stencil.ordinal() * 4 + (layer.rotation & 3);
+			if (seenMasks[mask]) {
+				it.remove();
+				changed = true;
+			} else seenMasks[mask] = true;
+		}
+
+		return changed;
 	}
 
 	public List<Layer> getAllLayers() {
@@ -198,6 +231,12 @@ public class SyncableBlockLayers extends SyncableObjectBase {
 		Layer prevTop = layers.getLast();
 		prevTop.setHasStencilCover(false);
 
+		final Iterator<Layer> it = layers.iterator();
+		while (it.hasNext()) {
+			final Layer layer = it.next();
+			if (layer != prevTop && isPainted(layer) && hasSameMask(layer, prevTop)) it.remove();
+		}
+
 		Layer newLayer = new Layer();
 		newLayer.setStencil(prevTop.getStencil());
 		newLayer.setHasStencilCover(true);
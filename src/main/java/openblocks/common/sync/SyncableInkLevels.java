@@ -0,0 +1,62 @@
+package openblocks.common.sync;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import net.minecraft.nbt.NBTTagCompound;
+import openblocks.common.tileentity.TileEntityPaintMixer.DyeSlot;
+import openmods.sync.SyncableObjectBase;
+
+/**
+ * All four paint mixer ink levels as single synced object, marked dirty only when some level actually changes.
+ */
+public class SyncableInkLevels extends SyncableObjectBase {
+
+	private static final DyeSlot[] SLOTS = DyeSlot.values();
+
+	private final float[] levels = new float[SLOTS.length];
+
+	public float get(DyeSlot slot) {
+		return levels[slot.ordinal()];
+	}
+
+	public void set(DyeSlot slot, float value) {
+		final int index = slot.ordinal();
+		if (levels[index] != value) {
+			levels[index] = value;
+			markDirty();
+		}
+	}
+
+	public void add(DyeSlot slot, float delta) {
+		set(slot, get(slot) + delta);
+	}
+
+	@Override
+	public void readFromStream(DataInputStream stream) throws IOException {
+		for (int i = 0; i < levels.length; i++)
+			levels[i] = stream.readFloat();
+	}
+
+	@Override
+	public void writeToStream(DataOutputStream stream) throws IOException {
+		for (float level : levels)
+			stream.writeFloat(level);
+	}
+
+	@Override
+	public void writeToNBT(NBTTagCompound nbt, String name) {
+		NBTTagCompound subTag = new NBTTagCompound();
+		for (DyeSlot slot : SLOTS)
+			subTag.setFloat(slot.name(), levels[slot.ordinal()]);
+		nbt.setTag(name, subTag);
+	}
+
+	@Override
+	public void readFromNBT(NBTTagCompound nbt, String name) {
+		NBTTagCompound subTag = nbt.getCompoundTag(name);
+		for (DyeSlot slot : SLOTS)
+			levels[slot.ordinal()] = subTag.getFloat(slot.name());
+	}
+}
@@ -2,6 +2,7 @@ package openblocks.common.tileentity;
 
 import java.util.Set;
 
+import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Items;
 import net.minecraft.inventory.IInventory;
@@ -14,10 +15,17 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidHandler;
 import openblocks.OpenBlocks;
 import openblocks.client.gui.GuiAutoAnvil;
+import openblocks.common.ActiveTileTicker;
+import openblocks.common.ActiveTileTicker.IActiveTile;
 import openblocks.common.LiquidXpUtils;
+import openblocks.common.NeighbourCache;
+import openblocks.common.TileUpdateScheduler;
+import openblocks.common.TileUpdateScheduler.IScheduledTile;
 import openblocks.common.container.ContainerAutoAnvil;
 import openblocks.common.tileentity.TileEntityAutoAnvil.AutoSlots;
 import openmods.api.IHasGui;
+import openmods.api.IInventoryCallback;
+import openmods.api.INeighbourAwareTile;
 import openmods.api.IValueProvider;
 import openmods.api.IValueReceiver;
 import openmods.gui.misc.IConfigurableGuiSlots;
@@ -26,7 +34,6 @@ import openmods.include.IncludeOverride;
 import openmods.inventory.GenericInventory;
 import openmods.inventory.IInventoryProvider;
 import openmods.inventory.TileEntityInventory;
-import openmods.inventory.legacy.ItemDistribution;
 import openmods.liquids.SidedFluidHandler;
 import openmods.sync.SyncableFlags;
 import openmods.sync.SyncableSides;
@@ -35,12 +42,23 @@ import openmods.tileentity.SyncedTileEntity;
 import openmods.utils.*;
 import openmods.utils.bitmap.*;
 
-public class TileEntityAutoAnvil extends SyncedTileEntity implements IHasGui, IInventoryProvider, IConfigurableGuiSlots<AutoSlots> {
+/**
+ * Like {@link TileEntityXPBottler}, anvil ticks only while it has something to do and otherwise waits for inventory, neighbour or fluid changes.
+ * Repair is checked only after inputs or tank changed and output slot is empty.
+ */
+public class TileEntityAutoAnvil extends SyncedTileEntity implements IHasGui, IInventoryProvider, IConfigurableGuiSlots<AutoSlots>, IInventoryCallback, INeighbourAwareTile, IActiveTile, IScheduledTile {
 
 	protected static final int TOTAL_COOLDOWN = 40;
 	public static final int TANK_CAPACITY = LiquidXpUtils.getLiquidForLevel(45);
+	private static final int IDLE_POLL_TICKS = 10;
 
-	protected int cooldown = 0;
+	protected long nextRepairTime;
+
+	private boolean needsRepairCheck = true;
+
+	private boolean isPollScheduled;
+
+	private final NeighbourCache neighbours = new NeighbourCache(this);
 
 	/**
 	 * The 3 slots in the inventory
@@ -90,6 +108,7 @@ public class TileEntityAutoAnvil extends SyncedTileEntity implements IHasGui, II
 		slotSides.registerSlot(Slots.tool, toolSides, true, false);
 		slotSides.registerSlot(Slots.modifier, modifierSides, true, false);
 		slotSides.registerSlot(Slots.output, outputSides, false, true);
+		inventory.addCallback(this);
 	}
 
 	@Override
@@ -103,36 +122,108 @@ public class TileEntityAutoAnvil extends SyncedTileEntity implements IHasGui, II
 	}
 
 	@Override
-	public void updateEntity() {
-		super.updateEntity();
+	public boolean canUpdate() {
+		return false;
+	}
 
-		if (!worldObj.isRemote) {
-			// if we should auto-drink liquid, do it!
-			if (automaticSlots.get(AutoSlots.xp)) {
-				tank.fillFromSides(100, worldObj, getPosition(), xpSides.getValue());
-			}
+	@Override
+	public void validate() {
+		super.validate();
+		ActiveTileTicker.instance.wake(this);
+	}
 
-			if (shouldAutoOutput() && hasOutput()) {
-				ItemDistribution.moveItemsToOneOfSides(this, inventory, Slots.output.ordinal(), 1, outputSides.getValue(), true);
-			}
+	public void wake() {
+		ActiveTileTicker.instance.wake(this);
+	}
 
-			// if we should auto input the tool and we don't currently have one
-			if (shouldAutoInputTool() && !hasTool()) {
-				ItemDistribution.moveItemsFromOneOfSides(this, inventory, 1, Slots.tool.ordinal(), toolSides.getValue(), true);
-			}
+	@Override
+	public boolean updateActive() {
+		// if we should auto-drink liquid, do it!
+		int filled = 0;
+		if (automaticSlots.get(AutoSlots.xp) && !isTankFull()) {
+			filled = neighbours.pullFluid(tank, 100, xpSides.getValue());
+		}
 
-			// if we should auto input the modifier
-			if (shouldAutoInputModifier()) {
-				ItemDistribution.moveItemsFromOneOfSides(this, inventory, 1, Slots.modifier.ordinal(), modifierSides.getValue(), true);
-			}
+		if (shouldAutoOutput() && hasOutput()) {
+			neighbours.pushItems(inventory, Slots.output.ordinal(), 1, outputSides.getValue());
+		}
+
+		// if we should auto input the tool and we don't currently have one
+		if (shouldAutoInputTool() && !hasTool()) {
+			neighbours.pullItems(inventory, Slots.tool.ordinal(), null, 1, toolSides.getValue());
+		}
 
-			if (cooldown-- < 0 && !hasOutput()) {
+		// if we should auto input the modifier
+		if (shouldAutoInputModifier()) {
+			neighbours.pullItems(inventory, Slots.modifier.ordinal(), null, 1, modifierSides.getValue());
+		}
+
+		if (filled > 0) needsRepairCheck = true;
+		if (tank.isDirty()) sync();
+
+		boolean isWaiting = false;
+		if (needsRepairCheck && hasTool() && !hasOutput()) {
+			final long now = worldObj.getTotalWorldTime();
+			if (now >= nextRepairTime) {
+				needsRepairCheck = false;
 				repairItem();
-				cooldown = TOTAL_COOLDOWN;
-			}
+				nextRepairTime = now + TOTAL_COOLDOWN;
+			} else isWaiting = true;
+		}
 
-			if (tank.isDirty()) sync();
+		if (isWaiting || filled > 0) return true;
+
+		if (!isPollScheduled && needsNeighbours()) {
+			isPollScheduled = true;
+			TileUpdateScheduler.instance.schedule(this, IDLE_POLL_TICKS);
+		}
+
+		return false;
+	}
+
+	private boolean needsNeighbours() {
+		return (automaticSlots.get(AutoSlots.xp) && !isTankFull()) ||
+				(shouldAutoOutput() && hasOutput()) ||
+				(shouldAutoInputTool() && !hasTool()) ||
+				(shouldAutoInputModifier() && !hasFullModifierStack());
+	}
+
+	private boolean hasFullModifierStack() {
+		final ItemStack modifier = inventory.getStackInSlot(Slots.modifier);
+		return modifier != null && modifier.stackSize >= modifier.getMaxStackSize();
+	}
+
+	@Override
+	public int updateScheduled() {
+		isPollScheduled = false;
+		wake();
+		return 0;
+	}
+
+	@Override
+	public void onInventoryChanged(IInventory invent, int slotNumber) {
+		needsRepairCheck = true;
+		wake();
+	}
+
+	@Override
+	public void onNeighbourChanged(Block block) {
+		neighbours.invalidate();
+		wake();
+	}
+
+	@IncludeOverride
+	public int fill(ForgeDirection from, FluidStack resource, boolean doFill) {
+		final int filled = tankWrapper.fill(from, resource, doFill);
+		if (doFill && filled > 0) {
+			needsRepairCheck = true;
+			wake();
 		}
+		return filled;
+	}
+
+	private boolean isTankFull() {
+		return tank.getFluidAmount() >= tank.getCapacity();
 	}
 
 	private void repairItem() {
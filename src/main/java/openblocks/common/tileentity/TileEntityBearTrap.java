@@ -1,6 +1,5 @@
 package openblocks.common.tileentity;
 
-import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -9,11 +8,14 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityCreature;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraftforge.common.util.ForgeDirection;
+import openblocks.common.ActiveTileTicker;
+import openblocks.common.ActiveTileTicker.IActiveTile;
+import openblocks.common.EntityUuidIndex;
 import openmods.api.*;
 import openmods.sync.*;
 import openmods.tileentity.SyncedTileEntity;
 
-public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwareTile, ISurfaceAttachment, INeighbourAwareTile, IAddAwareTile {
+public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwareTile, ISurfaceAttachment, INeighbourAwareTile, IAddAwareTile, IActiveTile {
 
 	public static final int OPENING_ANIMATION_TIME = 15;
 
@@ -25,14 +27,14 @@ public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwa
 	// can't be added as new flag, since animation depends on it
 	private SyncableBoolean isLocked;
 	private SyncableUUID trappedEntity;
-	private int tickSinceOpened;
+	private long openedTime;
 	private Entity cachedEntity;
 
 	public TileEntityBearTrap() {
 		syncMap.addUpdateListener(new ISyncListener() {
 			@Override
 			public void onSync(Set<ISyncableObject> changes) {
-				if (changes.contains(flags) && !isShut()) tickSinceOpened = 0;
+				if (changes.contains(flags) && !isShut() && worldObj != null) openedTime = worldObj.getTotalWorldTime();
 			}
 		});
 	}
@@ -43,17 +45,9 @@ public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwa
 
 		if (cachedEntity != null && uuid.equals(cachedEntity.getUniqueID())) return cachedEntity;
 
-		@SuppressWarnings("unchecked")
-		final List<Entity> entityList = worldObj.loadedEntityList;
-
-		for (Entity entity : entityList)
-			if (uuid.equals(entity.getUniqueID())) {
-				cachedEntity = entity;
-				return entity;
-			}
-
-		return null;
-
+		final Entity entity = EntityUuidIndex.instance.getEntity(worldObj, uuid);
+		if (entity != null) cachedEntity = entity;
+		return entity;
 	}
 
 	@Override
@@ -65,13 +59,23 @@ public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwa
 	}
 
 	@Override
-	public void updateEntity() {
-		super.updateEntity();
-		tickSinceOpened++;
-		if (!worldObj.isRemote) {
-			immobilizeEntity();
-			sync();
-		}
+	public boolean canUpdate() {
+		return false;
+	}
+
+	@Override
+	public void validate() {
+		super.validate();
+		// opening time is not saved, so loaded trap waits full animation time, like freshly opened one
+		if (worldObj != null) openedTime = worldObj.getTotalWorldTime();
+		// open traps only need collision callbacks, shut ones have to hold entity
+		if (isShut()) ActiveTileTicker.instance.wake(this);
+	}
+
+	@Override
+	public boolean updateActive() {
+		if (isShut()) immobilizeEntity();
+		return isShut();
 	}
 
 	private void immobilizeEntity() {
@@ -99,7 +103,7 @@ public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwa
 
 	public void onEntityCollided(Entity entity) {
 		if (!worldObj.isRemote) {
-			if (entity instanceof EntityCreature && !isLocked.get() && tickSinceOpened > OPENING_ANIMATION_TIME) {
+			if (entity instanceof EntityCreature && !isLocked.get() && ticksSinceOpened() > OPENING_ANIMATION_TIME) {
 				close(entity);
 			}
 		}
@@ -115,7 +119,7 @@ public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwa
 	}
 
 	public int ticksSinceOpened() {
-		return tickSinceOpened;
+		return (int)Math.min(Integer.MAX_VALUE, worldObj.getTotalWorldTime() - openedTime);
 	}
 
 	@Override
@@ -130,6 +134,8 @@ public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwa
 			trappedEntity.setValue(trapped.getUniqueID());
 			worldObj.playSoundEffect(xCoord + 0.5, yCoord + 0.5, zCoord + 0.5, "openblocks:beartrap.close", 0.5F, 1.0F);
 			worldObj.notifyBlocksOfNeighborChange(xCoord, yCoord, zCoord, getBlockType());
+			sync();
+			ActiveTileTicker.instance.wake(this);
 		}
 	}
 
@@ -137,8 +143,10 @@ public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwa
 		if (flags.get(Flags.isShut)) {
 			flags.off(Flags.isShut);
 			trappedEntity.clear();
+			openedTime = worldObj.getTotalWorldTime();
 			worldObj.playSoundEffect(xCoord + 0.5, yCoord + 0.5, zCoord + 0.5, "openblocks:beartrap.open", 0.5F, 1.0F);
 			worldObj.notifyBlocksOfNeighborChange(xCoord, yCoord, zCoord, getBlockType());
+			sync();
 		}
 	}
 
@@ -162,6 +170,7 @@ public class TileEntityBearTrap extends SyncedTileEntity implements IActivateAwa
 			boolean isLocked = worldObj.isBlockIndirectlyGettingPowered(xCoord, yCoord, zCoord);
 			this.isLocked.set(isLocked);
 			if (isLocked) open();
+			sync();
 		}
 	}
 }
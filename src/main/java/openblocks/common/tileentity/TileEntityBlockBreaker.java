@@ -9,14 +9,15 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.ForgeDirection;
+import openblocks.common.BlockOperationQueue;
+import openblocks.common.BlockOperationQueue.Batch;
+import openblocks.common.BlockOperationQueue.IBlockOperation;
 import openmods.api.INeighbourAwareTile;
 import openmods.fakeplayer.BreakBlockAction;
-import openmods.fakeplayer.FakePlayerPool;
+import openmods.fakeplayer.OpenModsFakePlayer;
 import openmods.include.IncludeInterface;
 import openmods.inventory.GenericInventory;
-import openmods.inventory.legacy.ItemDistribution;
 import openmods.sync.SyncableBoolean;
 import openmods.tileentity.SyncedTileEntity;
 import cpw.mods.fml.relauncher.Side;
@@ -24,8 +25,6 @@ import cpw.mods.fml.relauncher.SideOnly;
 
 public class TileEntityBlockBreaker extends SyncedTileEntity implements INeighbourAwareTile {
 
-	private static final int EVENT_ACTIVATE = 3;
-
 	// DON'T remove this object, even though it seems unused. Without it Builcraft pipes won't connect. -B
 	@IncludeInterface(IInventory.class)
 	private final GenericInventory inventory = registerInventoryCallback(new GenericInventory("blockbreaker", true, 1) {
@@ -87,24 +86,19 @@ public class TileEntityBlockBreaker extends SyncedTileEntity implements INeighbo
 
 		if (worldObj.blockExists(x, y, z)) {
 			final Block block = worldObj.getBlock(x, y, z);
-			if (canBreakBlock(block, x, y, z)) sendBlockEvent(EVENT_ACTIVATE, 0);
+			if (canBreakBlock(block, x, y, z)) BlockOperationQueue.instance.schedule(worldObj, x, z, new IBlockOperation() {
+				@Override
+				public void execute(OpenModsFakePlayer player, Batch batch) {
+					breakBlock(player, batch);
+				}
+			});
 		}
 
 		worldObj.playSoundEffect(xCoord + 0.5D, yCoord + 0.5D, zCoord + 0.5D, "tile.piston.in", 0.5F, worldObj.rand.nextFloat() * 0.15F + 0.6F);
 	}
 
-	@Override
-	public boolean receiveClientEvent(int event, int param) {
-		if (event == EVENT_ACTIVATE) {
-			breakBlock();
-			return true;
-		}
-
-		return false;
-	}
-
-	public void breakBlock() {
-		if (!(worldObj instanceof WorldServer)) return;
+	private void breakBlock(OpenModsFakePlayer player, Batch batch) {
+		if (isInvalid()) return;
 
 		final ForgeDirection direction = getRotation();
 		final int x = xCoord + direction.offsetX;
@@ -116,20 +110,11 @@ public class TileEntityBlockBreaker extends SyncedTileEntity implements INeighbo
 		final Block block = worldObj.getBlock(x, y, z);
 		if (!canBreakBlock(block, x, y, z)) return;
 
-		final List<EntityItem> drops = FakePlayerPool.instance.executeOnPlayer((WorldServer)worldObj, new BreakBlockAction(worldObj, x, y, z));
-		tryInjectItems(drops, direction.getOpposite());
-	}
-
-	private void tryInjectItems(List<EntityItem> drops, ForgeDirection direction) {
-		TileEntity targetInventory = getTileInDirection(direction);
-		if (targetInventory == null) return;
+		final List<EntityItem> drops = new BreakBlockAction(worldObj, x, y, z).usePlayer(player);
 
-		for (EntityItem drop : drops) {
-			ItemStack stack = drop.getEntityItem();
-			ItemDistribution.insertItemInto(stack, targetInventory, direction, true);
-
-			if (stack.stackSize <= 0) drop.setDead();
-		}
+		final ForgeDirection back = direction.getOpposite();
+		final TileEntity targetInventory = getTileInDirection(back);
+		if (targetInventory != null) batch.addDrops(targetInventory, back, drops);
 	}
 
 	@Override
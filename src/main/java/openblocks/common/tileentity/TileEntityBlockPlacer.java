@@ -6,14 +6,14 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Vec3;
-import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.ForgeDirection;
 import openblocks.client.gui.GuiBlockPlacer;
+import openblocks.common.BlockOperationQueue;
+import openblocks.common.BlockOperationQueue.Batch;
+import openblocks.common.BlockOperationQueue.IBlockOperation;
 import openblocks.common.container.ContainerBlockPlacer;
 import openmods.api.IHasGui;
 import openmods.api.INeighbourAwareTile;
-import openmods.fakeplayer.FakePlayerPool;
-import openmods.fakeplayer.FakePlayerPool.PlayerUser;
 import openmods.fakeplayer.OpenModsFakePlayer;
 import openmods.include.IncludeInterface;
 import openmods.inventory.GenericInventory;
@@ -26,8 +26,6 @@ public class TileEntityBlockPlacer extends OpenTileEntity implements INeighbourA
 
 	static final int BUFFER_SIZE = 9;
 
-	private static final int EVENT_ACTIVATE = 2;
-
 	private boolean _redstoneSignal;
 
 	private final GenericInventory inventory = registerInventoryCallback(new TileEntityInventory(this, "blockPlacer", false, BUFFER_SIZE));
@@ -47,24 +45,21 @@ public class TileEntityBlockPlacer extends OpenTileEntity implements INeighbourA
 		for (int i = 0; i < inventory.getSizeInventory(); i++) {
 			final ItemStack stack = inventory.getStackInSlot(i);
 			if (stack != null && stack.stackSize > 0) {
-				sendBlockEvent(EVENT_ACTIVATE, i);
+				final int slotId = i;
+				final ForgeDirection direction = getRotation();
+				BlockOperationQueue.instance.schedule(worldObj, xCoord + direction.offsetX, zCoord + direction.offsetZ, new IBlockOperation() {
+					@Override
+					public void execute(OpenModsFakePlayer player, Batch batch) {
+						placeBlock(player, slotId);
+					}
+				});
 				break;
 			}
 		}
 	}
 
-	@Override
-	public boolean receiveClientEvent(int event, int param) {
-		if (event == EVENT_ACTIVATE) {
-			placeBlock(param);
-			return true;
-		}
-
-		return false;
-	}
-
-	private void placeBlock(final int slotId) {
-		if (!(worldObj instanceof WorldServer)) return;
+	private void placeBlock(OpenModsFakePlayer fakePlayer, int slotId) {
+		if (isInvalid()) return;
 
 		final ItemStack stack = inventory.getStackInSlot(slotId);
 		if (stack == null || stack.stackSize <= 0) return;
@@ -81,17 +76,12 @@ public class TileEntityBlockPlacer extends OpenTileEntity implements INeighbourA
 			blockExists = !block.isAir(worldObj, x, y, z) && !block.isReplaceable(worldObj, x, y, z);
 		} else blockExists = false;
 
-		FakePlayerPool.instance.executeOnPlayer((WorldServer)worldObj, new PlayerUser() {
-			@Override
-			public void usePlayer(OpenModsFakePlayer fakePlayer) {
-				ItemStack newStack = fakePlayer.equipWithAndRightClick(stack,
-						Vec3.createVectorHelper(xCoord, yCoord, zCoord),
-						Vec3.createVectorHelper(x, y - 1, z),
-						direction.getOpposite(),
-						blockExists);
-				inventory.setInventorySlotContents(slotId, newStack);
-			}
-		});
+		ItemStack newStack = fakePlayer.equipWithAndRightClick(stack,
+				Vec3.createVectorHelper(xCoord, yCoord, zCoord),
+				Vec3.createVectorHelper(x, y - 1, z),
+				direction.getOpposite(),
+				blockExists);
+		inventory.setInventorySlotContents(slotId, newStack);
 	}
 
 	@Override
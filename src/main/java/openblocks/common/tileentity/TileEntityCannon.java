@@ -10,19 +10,20 @@ import net.minecraft.util.ChatComponentTranslation;
 import net.minecraft.util.Vec3;
 import net.minecraftforge.common.util.ForgeDirection;
 import openblocks.api.IPointable;
+import openblocks.common.NeighbourCache;
 import openblocks.common.entity.EntityItemProjectile;
 import openblocks.rpc.ITriggerable;
 import openmods.Log;
+import openmods.api.INeighbourAwareTile;
 import openmods.api.ISurfaceAttachment;
 import openmods.inventory.legacy.ItemDistribution;
 import openmods.sync.SyncableDouble;
 import openmods.tileentity.SyncedTileEntity;
-import openmods.utils.InventoryUtils;
 import openmods.utils.render.GeometryUtils;
 import cpw.mods.fml.relauncher.Side;
 import cpw.mods.fml.relauncher.SideOnly;
 
-public class TileEntityCannon extends SyncedTileEntity implements IPointable, ISurfaceAttachment, ITriggerable {
+public class TileEntityCannon extends SyncedTileEntity implements IPointable, ISurfaceAttachment, ITriggerable, INeighbourAwareTile {
 
 	/*
 	 * Blocks and Entities have a right-angle offset
@@ -52,6 +53,8 @@ public class TileEntityCannon extends SyncedTileEntity implements IPointable, IS
 
 	private Vec3 projectileOrigin = null;
 
+	private final NeighbourCache neighbours = new NeighbourCache(this);
+
 	@Override
 	protected void createSyncedFields() {
 		targetPitch = new SyncableDouble();
@@ -113,16 +116,23 @@ public class TileEntityCannon extends SyncedTileEntity implements IPointable, IS
 
 	private ItemStack findStack() {
 		for (ForgeDirection direction : ForgeDirection.VALID_DIRECTIONS) {
-			IInventory inventory = InventoryUtils.getInventory(worldObj, xCoord, yCoord, zCoord, direction);
+			if (neighbours.isKnownEmpty(direction)) continue;
+			IInventory inventory = neighbours.getInventory(direction);
 			if (inventory != null) {
 				ItemStack stack = ItemDistribution.removeFromFirstNonEmptySlot(inventory);
 				if (stack != null) return stack;
+				neighbours.markEmpty(direction);
 			}
 		}
 
 		return null;
 	}
 
+	@Override
+	public void onNeighbourChanged(Block block) {
+		neighbours.invalidate();
+	}
+
 	private void fireStack(ItemStack stack) {
 		final ITriggerable rpc = createServerRpcProxy(ITriggerable.class);
 		rpc.trigger();
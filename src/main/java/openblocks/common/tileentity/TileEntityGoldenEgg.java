@@ -1,6 +1,5 @@
 package openblocks.common.tileentity;
 
-import java.util.List;
 import java.util.Random;
 import java.util.UUID;
 
@@ -15,11 +14,11 @@ import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.Constants;
 import openblocks.Config;
 import openblocks.common.MagnetWhitelists;
+import openblocks.common.entity.EntityBlockSwarm;
 import openblocks.common.entity.EntityMiniMe;
 import openmods.Log;
 import openmods.api.IBreakAwareTile;
 import openmods.api.IPlacerAwareTile;
-import openmods.entity.EntityBlock;
 import openmods.fakeplayer.FakePlayerPool;
 import openmods.fakeplayer.FakePlayerPool.PlayerUser;
 import openmods.fakeplayer.OpenModsFakePlayer;
@@ -27,7 +26,6 @@ import openmods.sync.SyncableEnum;
 import openmods.tileentity.SyncedTileEntity;
 
 import com.google.common.base.Objects;
-import com.google.common.collect.Lists;
 import com.mojang.authlib.GameProfile;
 
 import cpw.mods.fml.relauncher.Side;
@@ -168,7 +166,7 @@ public class TileEntityGoldenEgg extends SyncedTileEntity implements IPlacerAwar
 	private float rotationSpeed;
 	private float progressSpeed;
 
-	private List<EntityBlock> blocks = Lists.newArrayList();
+	private EntityBlockSwarm swarm;
 	private SyncableEnum<State> stage;
 
 	private GameProfile owner;
@@ -199,13 +197,15 @@ public class TileEntityGoldenEgg extends SyncedTileEntity implements IPlacerAwar
 
 			@Override
 			public void usePlayer(OpenModsFakePlayer fakePlayer) {
-				EntityBlock block = EntityBlock.create(fakePlayer, worldObj, x, y, z);
-				if (block != null) {
-					block.setHasAirResistance(false);
-					block.setHasGravity(false);
-					block.motionY = 0.1;
-					blocks.add(block);
-					world.spawnEntityInWorld(block);
+				// swarm that already started falling can't take more blocks, so new one is started
+				if (swarm == null || !swarm.isAcceptingBlocks()) {
+					EntityBlockSwarm newSwarm = new EntityBlockSwarm(world, xCoord + 0.5, yCoord, zCoord + 0.5, EntityBlockSwarm.Mode.RISING);
+					if (newSwarm.addBlock(fakePlayer, x, y, z)) {
+						world.spawnEntityInWorld(newSwarm);
+						swarm = newSwarm;
+					}
+				} else {
+					swarm.addBlock(fakePlayer, x, y, z);
 				}
 			}
 		});
@@ -213,12 +213,10 @@ public class TileEntityGoldenEgg extends SyncedTileEntity implements IPlacerAwar
 	}
 
 	private void dropBlocks() {
-		for (EntityBlock block : blocks) {
-			block.motionY = -0.9;
-			block.setHasGravity(true);
+		if (swarm != null) {
+			swarm.startFalling();
+			swarm = null;
 		}
-
-		blocks.clear();
 	}
 
 	private void explode() {
@@ -1,14 +1,7 @@
 package openblocks.common.tileentity;
 
-import java.util.List;
-
 import net.minecraft.block.Block;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityLiving;
 import net.minecraft.entity.EntityLivingBase;
-import net.minecraft.entity.monster.EntitySkeleton;
-import net.minecraft.entity.monster.IMob;
-import net.minecraft.entity.passive.EntityBat;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Blocks;
 import net.minecraft.inventory.IInventory;
@@ -16,10 +9,10 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.IChatComponent;
-import net.minecraft.world.EnumDifficulty;
 import net.minecraft.world.storage.WorldInfo;
 import net.minecraftforge.common.util.FakePlayer;
 import openblocks.Config;
+import openblocks.common.GraveSpawnScheduler;
 import openmods.api.*;
 import openmods.inventory.GenericInventory;
 import openmods.inventory.IInventoryProvider;
@@ -52,23 +45,14 @@ public class TileEntityGrave extends SyncedTileEntity implements IPlacerAwareTil
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
-	public void updateEntity() {
-		super.updateEntity();
+	public boolean canUpdate() {
+		return false;
+	}
 
-		if (!worldObj.isRemote) {
-			if (Config.spawnSkeletons && worldObj.difficultySetting != EnumDifficulty.PEACEFUL && worldObj.rand.nextDouble() < Config.skeletonSpawnRate) {
-				List<Entity> mobs = worldObj.getEntitiesWithinAABB(IMob.class, getBB().expand(7, 7, 7));
-				if (mobs.size() < 5) {
-					double chance = worldObj.rand.nextDouble();
-					EntityLiving living = chance < 0.5? new EntitySkeleton(worldObj) : new EntityBat(worldObj);
-					living.setPositionAndRotation(xCoord + 0.5, yCoord + 0.5, zCoord + 0.5, worldObj.rand.nextFloat() * 360, 0);
-					if (living.getCanSpawnHere()) {
-						worldObj.spawnEntityInWorld(living);
-					}
-				}
-			}
-		}
+	@Override
+	public void validate() {
+		super.validate();
+		GraveSpawnScheduler.instance.registerGrave(this);
 	}
 
 	public String getUsername() {
@@ -4,22 +4,19 @@ import java.util.List;
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraftforge.common.util.ForgeDirection;
+import openblocks.client.renderer.ImaginaryBlocksRenderer;
+import openblocks.common.ImaginationContext;
 import openblocks.common.item.ItemImaginary;
-import openblocks.common.item.ItemImaginationGlasses;
 import openmods.OpenMods;
 import openmods.api.ICustomPickItem;
 import openmods.tileentity.SimpleNetTileEntity;
 
 import com.google.common.base.Preconditions;
 
-import cpw.mods.fml.relauncher.Side;
-import cpw.mods.fml.relauncher.SideOnly;
-
 public class TileEntityImaginary extends SimpleNetTileEntity implements ICustomPickItem {
 
 	public static final double PANEL_HEIGHT = 0.1;
@@ -203,9 +200,6 @@ public class TileEntityImaginary extends SimpleNetTileEntity implements ICustomP
 		}
 	}
 
-	@SideOnly(Side.CLIENT)
-	public float visibility;
-
 	public TileEntityImaginary() {
 		collisionData = DUMMY;
 	}
@@ -229,6 +223,26 @@ public class TileEntityImaginary extends SimpleNetTileEntity implements ICustomP
 		CollisionType type = CollisionType.VALUES[tag.getByte("Type")];
 		collisionData = type.createData();
 		collisionData.readFromNBT(tag);
+
+		if (worldObj != null && worldObj.isRemote) ImaginaryBlocksRenderer.instance.markDirty(this);
+	}
+
+	@Override
+	public void validate() {
+		super.validate();
+		if (worldObj != null && worldObj.isRemote) ImaginaryBlocksRenderer.instance.markDirty(this);
+	}
+
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		if (worldObj != null && worldObj.isRemote) ImaginaryBlocksRenderer.instance.remove(this);
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		if (worldObj != null && worldObj.isRemote) ImaginaryBlocksRenderer.instance.remove(this);
 	}
 
 	@Override
@@ -246,11 +260,6 @@ public class TileEntityImaginary extends SimpleNetTileEntity implements ICustomP
 		return false;
 	}
 
-	@Override
-	public boolean shouldRenderInPass(int pass) {
-		return pass == 1;
-	}
-
 	public boolean isPencil() {
 		return color == null;
 	}
@@ -260,17 +269,7 @@ public class TileEntityImaginary extends SimpleNetTileEntity implements ICustomP
 	}
 
 	public boolean is(Property what, EntityPlayer player) {
-		if (what == Property.SOLID && isPencil()) return true;
-
-		ItemStack helmet = player.inventory.armorItemInSlot(3);
-
-		if (helmet == null) return isInverted();
-
-		Item item = helmet.getItem();
-
-		if (item instanceof ItemImaginationGlasses) return ((ItemImaginationGlasses)item).checkBlock(what, helmet, this);
-
-		return isInverted();
+		return ImaginationContext.get(player).is(what, this);
 	}
 
 	public boolean is(EntityPlayer player) {
@@ -1,17 +1,23 @@
 package openblocks.common.tileentity;
 
 import java.util.EnumMap;
+import java.util.Map;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Items;
 import net.minecraft.inventory.IInventory;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.oredict.OreDictionary;
 import openblocks.OpenBlocks;
 import openblocks.client.gui.GuiPaintMixer;
+import openblocks.common.ActiveTileTicker;
+import openblocks.common.ActiveTileTicker.IActiveTile;
 import openblocks.common.container.ContainerPaintMixer;
 import openblocks.common.item.ItemPaintCan;
+import openblocks.common.sync.SyncableInkLevels;
 import openblocks.rpc.IColorChanger;
 import openmods.api.IHasGui;
 import openmods.api.IInventoryCallback;
@@ -22,18 +28,17 @@ import openmods.inventory.GenericInventory;
 import openmods.inventory.IInventoryProvider;
 import openmods.inventory.TileEntityInventory;
 import openmods.sync.SyncableFlags;
-import openmods.sync.SyncableFloat;
 import openmods.sync.SyncableInt;
 import openmods.sync.drops.DroppableTileEntity;
 import openmods.sync.drops.StoreOnDrop;
 import openmods.utils.ColorUtils;
-import openmods.utils.MiscUtils;
 
 import org.apache.commons.lang3.ArrayUtils;
 
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Maps;
 
-public class TileEntityPaintMixer extends DroppableTileEntity implements IInventoryProvider, IHasGui, IInventoryCallback, IColorChanger {
+public class TileEntityPaintMixer extends DroppableTileEntity implements IInventoryProvider, IHasGui, IInventoryCallback, IColorChanger, IActiveTile {
 
 	private static final ItemStack PAINT_CAN = new ItemStack(OpenBlocks.Blocks.paintCan);
 	private static final ItemStack MILK_BUCKET = new ItemStack(Items.milk_bucket);
@@ -49,10 +54,16 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 	}
 
 	public static enum DyeSlot {
-		cyan,
-		magenta,
-		yellow,
-		black
+		cyan(Slots.dyeCyan),
+		magenta(Slots.dyeMagenta),
+		yellow(Slots.dyeYellow),
+		black(Slots.dyeBlack);
+
+		public final Slots inventorySlot;
+
+		private DyeSlot(Slots inventorySlot) {
+			this.inventorySlot = inventorySlot;
+		}
 	}
 
 	private static EnumMap<Slots, Integer> ALLOWED_COLORS = Maps.newEnumMap(Slots.class);
@@ -64,6 +75,9 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 		ALLOWED_COLORS.put(Slots.dyeYellow, OreDictionary.getOreID("dyeYellow"));
 	}
 
+	// item id and damage -> mask of dye slots, filled on first use (all dyes are registered by then)
+	private static final Map<Integer, Integer> DYE_SLOT_MASKS = new MapMaker().makeMap();
+
 	public enum Flags {
 		hasPaint
 	}
@@ -76,22 +90,13 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 	private SyncableFlags flags;
 	private final WorkerLogic logic = new WorkerLogic(progress, PROGRESS_TICKS);
 
-	// These could be optimized with a byte array later
-	// Not important for release
 	// Levels should be 0-2, so that if there is 0.3 left, 1 can be consumed and
 	// not overflow ;)
-
-	@StoreOnDrop
-	public SyncableFloat lvlCyan;
-
 	@StoreOnDrop
-	public SyncableFloat lvlMagenta;
+	private SyncableInkLevels inkLevels;
 
-	@StoreOnDrop
-	public SyncableFloat lvlYellow;
-
-	@StoreOnDrop
-	public SyncableFloat lvlBlack;
+	// inputs and ink are only checked after inventory or color changes
+	private boolean needsCheck = true;
 
 	private GenericInventory inventory = new TileEntityInventory(this, "paintmixer", true, 6) {
 		@Override
@@ -110,89 +115,70 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 	}
 
 	@Override
-	public void updateEntity() {
-		super.updateEntity();
-		if (!worldObj.isRemote) {
+	public boolean canUpdate() {
+		return false;
+	}
 
-			if (logic.isWorking()) {
-				if (!hasValidInput() || !hasSufficientInk()) {
-					logic.reset();
-				} else if (logic.update()) {
-					consumeInk();
-					ItemStack output = ItemPaintCan.createStack(color.get(), ItemPaintCan.FULL_CAN_SIZE);
-					inventory.setInventorySlotContents(Slots.paint.ordinal(), output);
-					canColor.set(color.get());
-				}
-			}
+	@Override
+	public void validate() {
+		super.validate();
+		wake();
+	}
 
+	private void wake() {
+		needsCheck = true;
+		ActiveTileTicker.instance.wake(this);
+	}
+
+	@Override
+	public boolean updateActive() {
+		if (needsCheck) {
+			needsCheck = false;
+			if (logic.isWorking() && (!hasValidInput() || !hasSufficientInk())) logic.reset();
 			checkAutoConsumption();
-			sync();
 		}
+
+		if (logic.isWorking() && logic.update()) {
+			consumeInk();
+			ItemStack output = ItemPaintCan.createStack(color.get(), ItemPaintCan.FULL_CAN_SIZE);
+			inventory.setInventorySlotContents(Slots.paint.ordinal(), output);
+			canColor.set(color.get());
+			// ink levels dropped, so dyes may be used again
+			checkAutoConsumption();
+		}
+
+		sync();
+		return logic.isWorking();
 	}
 
 	private void checkAutoConsumption() {
-		if (lvlCyan.get() <= 1f) { /* We can store 2.0, so <= */
-			if (tryUseInk(Slots.dyeCyan, 1)) {
-				lvlCyan.set(lvlCyan.get() + 1f);
-			}
-		}
-		if (lvlMagenta.get() <= 1f) {
-			if (tryUseInk(Slots.dyeMagenta, 1)) {
-				lvlMagenta.set(lvlMagenta.get() + 1f);
-			}
+		for (DyeSlot slot : DyeSlot.values()) {
+			/* We can store 2.0, so <= */
+			if (inkLevels.get(slot) <= 1f && tryUseInk(slot.inventorySlot, 1)) inkLevels.add(slot, 1f);
 		}
-		if (lvlYellow.get() <= 1f) {
-			if (tryUseInk(Slots.dyeYellow, 1)) {
-				lvlYellow.set(lvlYellow.get() + 1f);
-			}
-		}
-		if (lvlBlack.get() <= 1f) {
-			if (tryUseInk(Slots.dyeBlack, 1)) {
-				lvlBlack.set(lvlBlack.get() + 1f);
-			}
-		}
-
 	}
 
 	private void consumeInk() {
 		ColorUtils.CYMK cymk = new ColorUtils.RGB(color.get()).toCYMK();
-		lvlCyan.set(lvlCyan.get() - cymk.getCyan());
-		lvlBlack.set(lvlBlack.get() - cymk.getKey());
-		lvlYellow.set(lvlYellow.get() - cymk.getYellow());
-		lvlMagenta.set(lvlMagenta.get() - cymk.getMagenta());
+		inkLevels.add(DyeSlot.cyan, -cymk.getCyan());
+		inkLevels.add(DyeSlot.black, -cymk.getKey());
+		inkLevels.add(DyeSlot.yellow, -cymk.getYellow());
+		inkLevels.add(DyeSlot.magenta, -cymk.getMagenta());
+	}
+
+	private boolean ensureInk(DyeSlot slot, float required) {
+		if (required <= inkLevels.get(slot)) return true;
+		if (!tryUseInk(slot.inventorySlot, 1)) return false;
+		inkLevels.add(slot, 1f);
+		return true;
 	}
 
 	private boolean hasSufficientInk() {
 		ColorUtils.CYMK cymk = new ColorUtils.RGB(color.get()).toCYMK();
-		if (cymk.getCyan() > lvlCyan.get()) {
-			if (tryUseInk(Slots.dyeCyan, 1)) {
-				lvlCyan.set(lvlCyan.get() + 1f);
-			} else {
-				return false;
-			}
-		}
-		if (cymk.getYellow() > lvlYellow.get()) {
-			if (tryUseInk(Slots.dyeYellow, 1)) {
-				lvlYellow.set(lvlYellow.get() + 1f);
-			} else {
-				return false;
-			}
-		}
-		if (cymk.getMagenta() > lvlMagenta.get()) {
-			if (tryUseInk(Slots.dyeMagenta, 1)) {
-				lvlMagenta.set(lvlMagenta.get() + 1f);
-			} else {
-				return false;
-			}
-		}
-		if (cymk.getKey() > lvlBlack.get()) {
-			if (tryUseInk(Slots.dyeBlack, 1)) {
-				lvlBlack.set(lvlBlack.get() + 1f);
-			} else {
-				return false;
-			}
-		}
-		return true;
+		return ensureInk(DyeSlot.cyan, cymk.getCyan()) &&
+				ensureInk(DyeSlot.yellow, cymk.getYellow()) &&
+				ensureInk(DyeSlot.magenta, cymk.getMagenta()) &&
+				ensureInk(DyeSlot.black, cymk.getKey());
 	}
 
 	public boolean tryUseInk(Slots slot, int consume) {
@@ -200,11 +186,24 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 		return isValidForSlot(slot, stack) && inventory.decrStackSize(slot.ordinal(), consume) != null;
 	}
 
+	private static int getDyeSlotMask(ItemStack stack) {
+		final Integer key = (Item.getIdFromItem(stack.getItem()) << 16) | (stack.getItemDamage() & 0xFFFF);
+		Integer mask = DYE_SLOT_MASKS.get(key);
+		if (mask == null) {
+			int result = 0;
+			int[] oreIds = OreDictionary.getOreIDs(stack);
+			for (Map.Entry<Slots, Integer> e : ALLOWED_COLORS.entrySet())
+				if (ArrayUtils.contains(oreIds, e.getValue())) result |= 1 << e.getKey().ordinal();
+
+			mask = result;
+			DYE_SLOT_MASKS.put(key, mask);
+		}
+		return mask;
+	}
+
 	private static boolean isValidForSlot(Slots slot, ItemStack stack) {
-		Integer allowedColor = ALLOWED_COLORS.get(slot);
-		if (allowedColor == null || stack == null) return false;
-		int[] oreIds = OreDictionary.getOreIDs(stack);
-		return ArrayUtils.contains(oreIds, allowedColor);
+		if (stack == null || !ALLOWED_COLORS.containsKey(slot)) return false;
+		return (getDyeSlotMask(stack) & (1 << slot.ordinal())) != 0;
 	}
 
 	@Override
@@ -212,10 +211,7 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 		color = new SyncableInt(0xFF0000);
 		flags = SyncableFlags.create(Flags.values().length);
 		progress = new SyncableInt();
-		lvlBlack = new SyncableFloat();
-		lvlCyan = new SyncableFloat();
-		lvlMagenta = new SyncableFloat();
-		lvlYellow = new SyncableFloat();
+		inkLevels = new SyncableInkLevels();
 		canColor = new SyncableInt(0xFFFFFF);
 	}
 
@@ -243,6 +239,7 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 			}
 			color.set(requestedColor);
 			logic.start();
+			wake();
 		}
 	}
 
@@ -254,19 +251,8 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 		return color;
 	}
 
-	public IValueProvider<Float> getDyeSlot(DyeSlot slot) {
-		switch (slot) {
-			case black:
-				return lvlBlack;
-			case cyan:
-				return lvlCyan;
-			case magenta:
-				return lvlMagenta;
-			case yellow:
-				return lvlYellow;
-			default:
-				throw MiscUtils.unhandledEnum(slot);
-		}
+	public SyncableInkLevels getInkLevels() {
+		return inkLevels;
 	}
 
 	public boolean hasPaint() {
@@ -315,6 +301,7 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 			sync();
 
 			markUpdated();
+			wake();
 		}
 	}
 
@@ -340,6 +327,22 @@ public class TileEntityPaintMixer extends DroppableTileEntity implements IInvent
 	public void readFromNBT(NBTTagCompound tag) {
 		super.readFromNBT(tag);
 		inventory.readFromNBT(tag);
+		readLegacyInkLevels(tag);
+	}
+
+	@Override
+	public void onBlockPlacedBy(EntityPlayer player, ForgeDirection side, ItemStack stack, float hitX, float hitY, float hitZ) {
+		super.onBlockPlacedBy(player, side, stack, hitX, hitY, hitZ);
+		// mixers dropped before levels were merged
+		if (stack.hasTagCompound()) readLegacyInkLevels(stack.getTagCompound());
+	}
+
+	private void readLegacyInkLevels(NBTTagCompound tag) {
+		// levels used to be stored as separate fields
+		for (DyeSlot slot : DyeSlot.values()) {
+			final String legacyName = "lvl" + Character.toUpperCase(slot.name().charAt(0)) + slot.name().substring(1);
+			if (tag.hasKey(legacyName)) inkLevels.set(slot, tag.getFloat(legacyName));
+		}
 	}
 
 	public IColorChanger createRpcProxy() {
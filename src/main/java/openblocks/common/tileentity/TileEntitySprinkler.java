@@ -2,6 +2,7 @@ package openblocks.common.tileentity;
 
 import java.util.Random;
 
+import net.minecraft.block.Block;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Items;
@@ -17,9 +18,11 @@ import net.minecraftforge.fluids.*;
 import openblocks.Config;
 import openblocks.OpenBlocks;
 import openblocks.client.gui.GuiSprinkler;
+import openblocks.common.NeighbourCache;
 import openblocks.common.container.ContainerSprinkler;
 import openmods.api.IBreakAwareTile;
 import openmods.api.IHasGui;
+import openmods.api.INeighbourAwareTile;
 import openmods.api.ISurfaceAttachment;
 import openmods.fakeplayer.FakePlayerPool;
 import openmods.fakeplayer.FakePlayerPool.PlayerUser;
@@ -36,7 +39,7 @@ import openmods.sync.SyncableTank;
 import openmods.tileentity.SyncedTileEntity;
 import openmods.utils.BlockUtils;
 
-public class TileEntitySprinkler extends SyncedTileEntity implements IBreakAwareTile, ISurfaceAttachment, IInventoryProvider, IHasGui {
+public class TileEntitySprinkler extends SyncedTileEntity implements IBreakAwareTile, ISurfaceAttachment, IInventoryProvider, IHasGui, INeighbourAwareTile {
 
 	private static final ItemStack BONEMEAL = new ItemStack(Items.dye, 1, 15);
 
@@ -66,6 +69,8 @@ public class TileEntitySprinkler extends SyncedTileEntity implements IBreakAware
 	@IncludeInterface
 	private final IFluidHandler tankWrapper = new GenericFluidHandler.Drain(tank);
 
+	private final NeighbourCache neighbours = new NeighbourCache(this);
+
 	@Override
 	protected void createSyncedFields() {
 		flags = SyncableFlags.create(Flags.values().length);
@@ -162,7 +167,7 @@ public class TileEntitySprinkler extends SyncedTileEntity implements IBreakAware
 		ticks++;
 		if (!worldObj.isRemote) {
 
-			tank.fillFromSides(3, worldObj, getPosition());
+			neighbours.pullFluid(tank, 3, NeighbourCache.ALL_SIDES);
 
 			// every 60 ticks drain from the tank
 			// if there's nothing to drain, disable it
@@ -199,6 +204,11 @@ public class TileEntitySprinkler extends SyncedTileEntity implements IBreakAware
 		return ForgeDirection.DOWN;
 	}
 
+	@Override
+	public void onNeighbourChanged(Block block) {
+		neighbours.invalidate();
+	}
+
 	@Override
 	public void onBlockBroken() {
 		if (!worldObj.isRemote && !worldObj.isAirBlock(xCoord, yCoord, zCoord)) {
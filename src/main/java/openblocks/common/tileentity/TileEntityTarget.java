@@ -4,18 +4,15 @@ import java.util.List;
 import java.util.Set;
 
 import net.minecraft.block.Block;
-import net.minecraft.command.IEntitySelector;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.projectile.EntityArrow;
 import net.minecraft.init.Items;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.AxisAlignedBB;
-import net.minecraft.util.MovingObjectPosition;
 import net.minecraft.world.WorldServer;
 import net.minecraftforge.common.util.ForgeDirection;
 import openblocks.OpenBlocks;
-import openblocks.OpenBlocks.Blocks;
+import openblocks.common.TargetProjectileTracker;
 import openmods.Log;
 import openmods.api.IAddAwareTile;
 import openmods.api.INeighbourAwareTile;
@@ -27,7 +24,6 @@ import openmods.reflection.SafeClassLoad;
 import openmods.sync.SyncableBoolean;
 import openmods.tileentity.SyncedTileEntity;
 import openmods.utils.BlockUtils;
-import openmods.utils.EntityUtils;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
@@ -37,8 +33,10 @@ import cpw.mods.fml.relauncher.SideOnly;
 
 public class TileEntityTarget extends SyncedTileEntity implements ISurfaceAttachment, INeighbourAwareTile, IAddAwareTile {
 
+	private static final int STRENGTH_RESET_DELAY = 10;
+
 	private int strength = 0;
-	private int tickCounter = -1;
+	private long strengthResetTime;
 
 	private SyncableBoolean active;
 
@@ -55,13 +53,6 @@ public class TileEntityTarget extends SyncedTileEntity implements ISurfaceAttach
 		addClass(FLANS_BULLET);
 	}
 
-	private final static IEntitySelector PROJECTILE_SELECTOR = new IEntitySelector() {
-		@Override
-		public boolean isEntityApplicable(Entity p_82704_1_) {
-			return EXTRA_PROJECTILE_CLASSES.contains(p_82704_1_.getClass());
-		}
-	};
-
 	public TileEntityTarget() {}
 
 	@Override
@@ -70,28 +61,26 @@ public class TileEntityTarget extends SyncedTileEntity implements ISurfaceAttach
 	}
 
 	@Override
-	public void updateEntity() {
-		super.updateEntity();
-		if (!worldObj.isRemote) predictOtherProjectiles();
-
-		tickCounter--;
-		if (tickCounter == 0) {
-			tickCounter = -1;
-			strength = 0;
-			worldObj.notifyBlocksOfNeighborChange(xCoord, yCoord, zCoord, OpenBlocks.Blocks.target);
-		}
+	public boolean canUpdate() {
+		return false;
 	}
 
-	private void predictOtherProjectiles() {
-		@SuppressWarnings("unchecked")
-		List<Entity> projectiles = worldObj.selectEntitiesWithinAABB(Entity.class, getBB().expand(10, 10, 10), PROJECTILE_SELECTOR);
+	@Override
+	public void validate() {
+		super.validate();
+		if (worldObj != null && !worldObj.isRemote) TargetProjectileTracker.instance.registerTarget(this);
+	}
 
-		for (Entity projectile : projectiles) {
-			MovingObjectPosition hit = EntityUtils.raytraceEntity(projectile);
-			if (BlockUtils.isBlockHit(hit, this)) {
-				Blocks.target.onTargetHit(worldObj, xCoord, yCoord, zCoord, hit.hitVec);
-			}
-		}
+	@Override
+	public void invalidate() {
+		super.invalidate();
+		if (worldObj != null && !worldObj.isRemote) TargetProjectileTracker.instance.unregisterTarget(this);
+	}
+
+	@Override
+	public void onChunkUnload() {
+		super.onChunkUnload();
+		if (!worldObj.isRemote) TargetProjectileTracker.instance.unregisterTarget(this);
 	}
 
 	public void setEnabled(boolean en) {
@@ -112,7 +101,22 @@ public class TileEntityTarget extends SyncedTileEntity implements ISurfaceAttach
 
 	public void setStrength(int strength) {
 		this.strength = strength;
-		tickCounter = 10;
+		strengthResetTime = worldObj.getTotalWorldTime() + STRENGTH_RESET_DELAY;
+		worldObj.scheduleBlockUpdate(xCoord, yCoord, zCoord, OpenBlocks.Blocks.target, STRENGTH_RESET_DELAY);
+		worldObj.notifyBlocksOfNeighborChange(xCoord, yCoord, zCoord, OpenBlocks.Blocks.target);
+	}
+
+	public void resetStrength() {
+		if (strength == 0) return;
+
+		// pending update is not replaced when target is hit again, so it may come too early
+		final long delay = strengthResetTime - worldObj.getTotalWorldTime();
+		if (delay > 0) {
+			worldObj.scheduleBlockUpdate(xCoord, yCoord, zCoord, OpenBlocks.Blocks.target, (int)delay);
+			return;
+		}
+
+		strength = 0;
 		worldObj.notifyBlocksOfNeighborChange(xCoord, yCoord, zCoord, OpenBlocks.Blocks.target);
 	}
 
@@ -6,6 +6,8 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import openblocks.common.TileUpdateScheduler;
+import openblocks.common.TileUpdateScheduler.IScheduledTile;
 import openblocks.common.TrophyHandler.Trophy;
 import openblocks.common.item.ItemTrophyBlock;
 import openmods.api.*;
@@ -13,11 +15,14 @@ import openmods.sync.SyncableEnum;
 import openmods.tileentity.SyncedTileEntity;
 import openmods.utils.ItemUtils;
 
-public class TileEntityTrophy extends SyncedTileEntity implements IPlacerAwareTile, IActivateAwareTile, ICustomHarvestDrops, ICustomPickItem {
+public class TileEntityTrophy extends SyncedTileEntity implements IPlacerAwareTile, IActivateAwareTile, ICustomHarvestDrops, ICustomPickItem, IScheduledTile {
 
 	private final String TAG_COOLDOWN = "cooldown";
 
-	private int cooldown = 0;
+	// remaining cooldown, until world time is known
+	private int loadedCooldown = 0;
+
+	private long cooldownEnd;
 	private SyncableEnum<Trophy> trophyIndex;
 
 	public TileEntityTrophy() {}
@@ -31,23 +36,43 @@ public class TileEntityTrophy extends SyncedTileEntity implements IPlacerAwareTi
 		return trophyIndex.get();
 	}
 
+	private int getCooldown() {
+		if (worldObj == null) return loadedCooldown;
+		return (int)Math.max(0, cooldownEnd - worldObj.getTotalWorldTime());
+	}
+
+	private void setCooldown(int cooldown) {
+		loadedCooldown = cooldown;
+		if (worldObj != null) cooldownEnd = worldObj.getTotalWorldTime() + cooldown;
+	}
+
 	@Override
-	public void updateEntity() {
-		super.updateEntity();
-		if (!worldObj.isRemote) {
-			Trophy trophy = getTrophy();
-			if (trophy != null) trophy.executeTickBehavior(this);
-			if (cooldown > 0) cooldown--;
+	public boolean canUpdate() {
+		return false;
+	}
+
+	@Override
+	public void validate() {
+		super.validate();
+		if (worldObj != null) {
+			setCooldown(loadedCooldown);
+			TileUpdateScheduler.instance.schedule(this, 1);
 		}
 	}
 
+	@Override
+	public int updateScheduled() {
+		Trophy trophy = getTrophy();
+		return trophy != null? trophy.executeScheduledBehavior(this) : 0;
+	}
+
 	@Override
 	public boolean onBlockActivated(EntityPlayer player, int side, float hitX, float hitY, float hitZ) {
 		if (!worldObj.isRemote) {
 			Trophy trophyType = getTrophy();
 			if (trophyType != null) {
 				trophyType.playSound(worldObj, xCoord, yCoord, zCoord);
-				if (cooldown <= 0) cooldown = trophyType.executeActivateBehavior(this, player);
+				if (getCooldown() <= 0) setCooldown(trophyType.executeActivateBehavior(this, player));
 			}
 		}
 		return true;
@@ -60,20 +85,20 @@ public class TileEntityTrophy extends SyncedTileEntity implements IPlacerAwareTi
 
 		if (stack.hasTagCompound()) {
 			NBTTagCompound tag = stack.getTagCompound();
-			this.cooldown = tag.getInteger(TAG_COOLDOWN);
+			setCooldown(tag.getInteger(TAG_COOLDOWN));
 		}
 	}
 
 	@Override
 	public void readFromNBT(NBTTagCompound tag) {
 		super.readFromNBT(tag);
-		this.cooldown = tag.getInteger(TAG_COOLDOWN);
+		this.loadedCooldown = tag.getInteger(TAG_COOLDOWN);
 	}
 
 	@Override
 	public void writeToNBT(NBTTagCompound tag) {
 		super.writeToNBT(tag);
-		tag.setInteger("cooldown", cooldown);
+		tag.setInteger("cooldown", getCooldown());
 	}
 
 	@Override
@@ -86,7 +111,7 @@ public class TileEntityTrophy extends SyncedTileEntity implements IPlacerAwareTi
 		if (trophy != null) {
 			ItemStack stack = trophy.getItemStack();
 			NBTTagCompound tag = ItemUtils.getItemTag(stack);
-			tag.setInteger(TAG_COOLDOWN, cooldown);
+			tag.setInteger(TAG_COOLDOWN, getCooldown());
 			return stack;
 		}
 
@@ -3,6 +3,7 @@ package openblocks.common.tileentity;
 import java.util.Collections;
 import java.util.List;
 
+import net.minecraft.block.Block;
 import net.minecraft.command.IEntitySelector;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.item.EntityItem;
@@ -12,18 +13,19 @@ import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.ISidedInventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.common.util.ForgeDirection;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidHandler;
 import openblocks.OpenBlocks;
 import openblocks.client.gui.GuiVacuumHopper;
 import openblocks.common.LiquidXpUtils;
+import openblocks.common.NeighbourCache;
 import openblocks.common.container.ContainerVacuumHopper;
 import openblocks.common.entity.EntityItemProjectile;
 import openmods.OpenMods;
 import openmods.api.IActivateAwareTile;
 import openmods.api.IHasGui;
+import openmods.api.INeighbourAwareTile;
 import openmods.api.IValueProvider;
 import openmods.include.IncludeInterface;
 import openmods.inventory.GenericInventory;
@@ -41,7 +43,7 @@ import openmods.utils.bitmap.*;
 
 import com.google.common.collect.Lists;
 
-public class TileEntityVacuumHopper extends SyncedTileEntity implements IInventoryProvider, IActivateAwareTile, IHasGui, IEntitySelector {
+public class TileEntityVacuumHopper extends SyncedTileEntity implements IInventoryProvider, IActivateAwareTile, IHasGui, IEntitySelector, INeighbourAwareTile {
 
 	public static final int TANK_CAPACITY = LiquidXpUtils.xpToLiquidRatio(EnchantmentUtils.getExperienceForLevel(5));
 
@@ -58,6 +60,8 @@ public class TileEntityVacuumHopper extends SyncedTileEntity implements IInvento
 	@IncludeInterface
 	private final IFluidHandler tankWrapper = new SidedFluidHandler.Source(xpOutputs, tank);
 
+	private final NeighbourCache neighbours = new NeighbourCache(this);
+
 	@Override
 	protected void createSyncedFields() {
 		tank = new SyncableTank(TANK_CAPACITY, OpenBlocks.Fluids.xpJuice);
@@ -150,7 +154,7 @@ public class TileEntityVacuumHopper extends SyncedTileEntity implements IInvento
 
 	private boolean outputToNeighbors() {
 		if (OpenMods.proxy.getTicks(worldObj) % 10 == 0) {
-			tank.distributeToSides(50, worldObj, getPosition(), xpOutputs.getValue());
+			neighbours.pushFluid(tank, 50, xpOutputs.getValue());
 			autoInventoryOutput();
 			return true;
 		}
@@ -171,10 +175,12 @@ public class TileEntityVacuumHopper extends SyncedTileEntity implements IInvento
 		final List<ForgeDirection> outputSides = Lists.newArrayList(itemOutputs.getValue());
 		Collections.shuffle(outputSides);
 
-		for (ForgeDirection output : outputSides) {
-			TileEntity tileOnSurface = getTileInDirection(output);
-			if (ItemDistribution.moveItemInto(inventory, slot, tileOnSurface, output, 64, true) > 0) return;
-		}
+		neighbours.pushItems(inventory, slot, 64, outputSides);
+	}
+
+	@Override
+	public void onNeighbourChanged(Block block) {
+		neighbours.invalidate();
 	}
 
 	@Override
@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.init.Items;
 import net.minecraft.inventory.IInventory;
@@ -16,10 +17,17 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.IFluidHandler;
 import openblocks.OpenBlocks;
 import openblocks.client.gui.GuiXPBottler;
+import openblocks.common.ActiveTileTicker;
+import openblocks.common.ActiveTileTicker.IActiveTile;
 import openblocks.common.LiquidXpUtils;
+import openblocks.common.NeighbourCache;
+import openblocks.common.TileUpdateScheduler;
+import openblocks.common.TileUpdateScheduler.IScheduledTile;
 import openblocks.common.container.ContainerXPBottler;
 import openblocks.common.tileentity.TileEntityXPBottler.AutoSlots;
 import openmods.api.IHasGui;
+import openmods.api.IInventoryCallback;
+import openmods.api.INeighbourAwareTile;
 import openmods.api.IValueProvider;
 import openmods.api.IValueReceiver;
 import openmods.gamelogic.WorkerLogic;
@@ -29,7 +37,6 @@ import openmods.include.IncludeOverride;
 import openmods.inventory.GenericInventory;
 import openmods.inventory.IInventoryProvider;
 import openmods.inventory.TileEntityInventory;
-import openmods.inventory.legacy.ItemDistribution;
 import openmods.liquids.SidedFluidHandler;
 import openmods.sync.*;
 import openmods.tileentity.SyncedTileEntity;
@@ -37,10 +44,15 @@ import openmods.utils.MiscUtils;
 import openmods.utils.SidedInventoryAdapter;
 import openmods.utils.bitmap.*;
 
-public class TileEntityXPBottler extends SyncedTileEntity implements IInventoryProvider, IHasGui, IConfigurableGuiSlots<AutoSlots> {
+/**
+ * Bottler ticks only while it has something to do. Idle bottler is woken by inventory and neighbour changes, fluid pushed into it or open GUI.
+ * If it has to pull from neighbours, it also looks around every {@link #IDLE_POLL_TICKS}, since neighbour inventories and tanks don't notify it.
+ */
+public class TileEntityXPBottler extends SyncedTileEntity implements IInventoryProvider, IHasGui, IConfigurableGuiSlots<AutoSlots>, IInventoryCallback, INeighbourAwareTile, IActiveTile, IScheduledTile {
 
 	public static final int TANK_CAPACITY = LiquidXpUtils.xpToLiquidRatio(LiquidXpUtils.XP_PER_BOTTLE);
 	public static final int PROGRESS_TICKS = 40;
+	private static final int IDLE_POLL_TICKS = 10;
 
 	protected static final ItemStack GLASS_BOTTLE = new ItemStack(Items.glass_bottle, 1);
 	protected static final ItemStack XP_BOTTLE = new ItemStack(Items.experience_bottle, 1);
@@ -79,6 +91,10 @@ public class TileEntityXPBottler extends SyncedTileEntity implements IInventoryP
 
 	private final WorkerLogic logic = new WorkerLogic(progress, PROGRESS_TICKS);
 
+	private boolean isPollScheduled;
+
+	private final NeighbourCache neighbours = new NeighbourCache(this);
+
 	@IncludeInterface
 	private final IFluidHandler tankWrapper = new SidedFluidHandler.Drain(xpSides, tank);
 
@@ -95,49 +111,102 @@ public class TileEntityXPBottler extends SyncedTileEntity implements IInventoryP
 	public TileEntityXPBottler() {
 		sided.registerSlot(Slots.input, glassSides, true, false);
 		sided.registerSlot(Slots.output, xpBottleSides, false, true);
+		inventory.addCallback(this);
 	}
 
 	@Override
-	public void updateEntity() {
-		super.updateEntity();
-		if (!worldObj.isRemote) {
+	public boolean canUpdate() {
+		return false;
+	}
 
-			// if we should, we'll autofill the tank
-			if (automaticSlots.get(AutoSlots.xp)) {
-				tank.fillFromSides(10, worldObj, getPosition(), xpSides.getValue());
-			}
+	@Override
+	public void validate() {
+		super.validate();
+		ActiveTileTicker.instance.wake(this);
+	}
 
-			// if they've ticked auto output, and we have something to output
-			if (shouldAutoOutput() && hasOutputStack()) {
-				ItemDistribution.moveItemsToOneOfSides(this, inventory, Slots.output.ordinal(), 1, xpBottleSides.getValue(), true);
-			}
+	public void wake() {
+		ActiveTileTicker.instance.wake(this);
+	}
 
-			// if we should auto input and we don't have any glass in the slot
-			if (shouldAutoInput() && !hasGlassInInput()) {
-				ItemDistribution.moveItemsFromOneOfSides(this, inventory, GLASS_BOTTLE, 1, Slots.input.ordinal(), glassSides.getValue(), true);
-			}
+	@Override
+	public boolean updateActive() {
+		// if we should, we'll autofill the tank
+		int filled = 0;
+		if (automaticSlots.get(AutoSlots.xp) && !isTankFull()) {
+			filled = neighbours.pullFluid(tank, 10, xpSides.getValue());
+		}
 
-			logic.checkWorkCondition(hasSpaceInOutput() && hasGlassInInput() && isTankFull());
+		// if they've ticked auto output, and we have something to output
+		if (shouldAutoOutput() && hasOutputStack()) {
+			neighbours.pushItems(inventory, Slots.output.ordinal(), 1, xpBottleSides.getValue());
+		}
 
-			if (logic.update()) {
-				// this happens when the progress has completed
-				worldObj.playSoundEffect(xCoord + 0.5, yCoord + 0.5, zCoord + 0.5, "openblocks:bottler.signal", .5f, .8f);
-				inventory.decrStackSize(Slots.input.ordinal(), 1);
-				tank.setFluid(null);
+		// if we should auto input and we don't have any glass in the slot
+		if (shouldAutoInput() && !hasGlassInInput()) {
+			neighbours.pullItems(inventory, Slots.input.ordinal(), GLASS_BOTTLE, 1, glassSides.getValue());
+		}
 
-				ItemStack outputStack = inventory.getStackInSlot(Slots.output.ordinal());
+		logic.checkWorkCondition(hasSpaceInOutput() && hasGlassInInput() && isTankFull());
 
-				if (outputStack == null) {
-					inventory.setInventorySlotContents(Slots.output.ordinal(), XP_BOTTLE.copy());
-				} else {
-					outputStack.stackSize++;
-				}
+		if (logic.update()) {
+			// this happens when the progress has completed
+			worldObj.playSoundEffect(xCoord + 0.5, yCoord + 0.5, zCoord + 0.5, "openblocks:bottler.signal", .5f, .8f);
+			inventory.decrStackSize(Slots.input.ordinal(), 1);
+			tank.setFluid(null);
 
-				inventory.onInventoryChanged(Slots.output.ordinal());
+			ItemStack outputStack = inventory.getStackInSlot(Slots.output.ordinal());
+
+			if (outputStack == null) {
+				inventory.setInventorySlotContents(Slots.output.ordinal(), XP_BOTTLE.copy());
+			} else {
+				outputStack.stackSize++;
 			}
 
-			sync();
+			inventory.onInventoryChanged(Slots.output.ordinal());
 		}
+
+		sync();
+
+		if (logic.isWorking() || filled > 0) return true;
+
+		if (!isPollScheduled && needsNeighbours()) {
+			isPollScheduled = true;
+			TileUpdateScheduler.instance.schedule(this, IDLE_POLL_TICKS);
+		}
+
+		return false;
+	}
+
+	private boolean needsNeighbours() {
+		return (automaticSlots.get(AutoSlots.xp) && !isTankFull()) ||
+				(shouldAutoOutput() && hasOutputStack()) ||
+				(shouldAutoInput() && !hasGlassInInput());
+	}
+
+	@Override
+	public int updateScheduled() {
+		isPollScheduled = false;
+		wake();
+		return 0;
+	}
+
+	@Override
+	public void onInventoryChanged(IInventory invent, int slotNumber) {
+		wake();
+	}
+
+	@Override
+	public void onNeighbourChanged(Block block) {
+		neighbours.invalidate();
+		wake();
+	}
+
+	@IncludeOverride
+	public int fill(ForgeDirection from, FluidStack resource, boolean doFill) {
+		final int filled = tankWrapper.fill(from, resource, doFill);
+		if (doFill && filled > 0) wake();
+		return filled;
 	}
 
 	@Override
@@ -1,6 +1,7 @@
 package openblocks.enchantments;
 
-import java.util.*;
+import java.util.Map;
+import java.util.Random;
 
 import net.minecraft.enchantment.EnchantmentHelper;
 import net.minecraft.entity.Entity;
@@ -16,10 +17,9 @@ import net.minecraftforge.event.entity.living.LivingHurtEvent;
 import openblocks.OpenBlocks.Enchantments;
 import openblocks.api.IFlimFlamDescription;
 import openblocks.enchantments.flimflams.FlimFlamRegistry;
+import openblocks.enchantments.flimflams.FlimFlamSelectionTable;
 import openmods.Log;
 
-import com.google.common.collect.Lists;
-
 import cpw.mods.fml.common.eventhandler.SubscribeEvent;
 
 public class FlimFlamEnchantmentsHandler {
@@ -36,7 +36,8 @@ public class FlimFlamEnchantmentsHandler {
 
 		public int luck;
 
-		public int cooldown;
+		// world time of next karma roll, replaces per-tick countdown
+		public long nextCheck;
 
 		public boolean forceNext;
 
@@ -116,49 +117,27 @@ public class FlimFlamEnchantmentsHandler {
 		return RANDOM.nextInt(20) + 1;
 	}
 
-	public static void deliverKarma(EntityPlayerMP player) {
+	public static void deliverKarma(final EntityPlayerMP player) {
 		if (player.isDead) return;
-		Luck property = getProperty(player);
-		if (property == null || !canFlimFlam(property)) return;
-		final int luck = property.luck;
-
-		int totalWeight = 0;
-		List<IFlimFlamDescription> selectedEffects = Lists.newArrayList();
-		for (IFlimFlamDescription effectMeta : FlimFlamRegistry.instance.getFlimFlams())
-			if (effectMeta.canApply(luck) && !FlimFlamRegistry.BLACKLIST.isBlacklisted(effectMeta)) {
-				selectedEffects.add(effectMeta);
-				totalWeight += effectMeta.weight();
-			}
-
-		if (selectedEffects.isEmpty()) return;
-
-		Collections.shuffle(selectedEffects);
-
-		while (!selectedEffects.isEmpty()) {
-			final int selectedWeight = RANDOM.nextInt(totalWeight);
-			int currentWeight = 0;
-			Iterator<IFlimFlamDescription> it = selectedEffects.iterator();
-
-			while (it.hasNext()) {
-				final IFlimFlamDescription effectMeta = it.next();
-				currentWeight += effectMeta.weight();
-				if (selectedWeight <= currentWeight) {
-					try {
-						if (effectMeta.action().execute(player)) {
-							property.luck -= effectMeta.cost();
-							Log.debug("Player %s flim-flammed with %s, current luck: %s", player, effectMeta.name(), property.luck);
-							if (!effectMeta.isSilent()) player.addChatMessage(new ChatComponentTranslation("openblocks.flim_flammed"));
-							return;
-						}
-					} catch (Throwable t) {
-						Log.warn(t, "Error during flimflam '%s' execution", effectMeta.name());
+		final Luck property = getProperty(player);
+		if (property == null || !canFlimFlam(property, player.worldObj.getTotalWorldTime())) return;
+
+		FlimFlamRegistry.SELECTION.select(RANDOM, property.luck, new FlimFlamSelectionTable.Selector() {
+			@Override
+			public boolean tryApply(IFlimFlamDescription effectMeta) {
+				try {
+					if (effectMeta.action().execute(player)) {
+						property.luck -= effectMeta.cost();
+						Log.debug("Player %s flim-flammed with %s, current luck: %s", player, effectMeta.name(), property.luck);
+						if (!effectMeta.isSilent()) player.addChatMessage(new ChatComponentTranslation("openblocks.flim_flammed"));
+						return true;
 					}
-					totalWeight -= effectMeta.weight();
-					it.remove();
-					break;
+				} catch (Throwable t) {
+					Log.warn(t, "Error during flimflam '%s' execution", effectMeta.name());
 				}
+				return false;
 			}
-		}
+		});
 	}
 
 	public static int getLuck(EntityPlayer player) {
@@ -173,15 +152,15 @@ public class FlimFlamEnchantmentsHandler {
 		return property.luck;
 	}
 
-	private static boolean canFlimFlam(Luck property) {
+	private static boolean canFlimFlam(Luck property, long now) {
 		if (property.forceNext) {
 			property.forceNext = false;
-			property.cooldown = EFFECT_DELAY;
+			property.nextCheck = now + EFFECT_DELAY;
 			return true;
 		}
 
-		if (property.luck > -LUCK_MARGIN || property.cooldown-- > 0) return false;
-		property.cooldown = EFFECT_DELAY;
+		if (property.luck > -LUCK_MARGIN || now < property.nextCheck) return false;
+		property.nextCheck = now + EFFECT_DELAY;
 		double probability = 0.75 * 2.0 * Math.abs(Math.atan(property.luck / 250.0) / Math.PI);
 		double r = RANDOM.nextDouble();
 		return r < probability;
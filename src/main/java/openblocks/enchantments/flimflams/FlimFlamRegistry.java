@@ -26,6 +26,8 @@ public class FlimFlamRegistry implements IFlimFlamRegistry {
 
 	public static final FlimFlamChecker BLACKLIST = new FlimFlamChecker();
 
+	public static final FlimFlamSelectionTable SELECTION = new FlimFlamSelectionTable();
+
 	public static class FlimFlamChecker {
 		private Set<String> flimFlamList;
 
@@ -52,6 +54,7 @@ public class FlimFlamRegistry implements IFlimFlamRegistry {
 		@SubscribeEvent
 		public void onReconfig(ConfigurationChange.Post evt) {
 			if (evt.check("tomfoolery", "flimFlamBlacklist")) flimFlamList = null;
+			if (evt.category.equals("tomfoolery")) SELECTION.invalidate();
 		}
 
 		public void init() {
@@ -71,6 +74,7 @@ public class FlimFlamRegistry implements IFlimFlamRegistry {
 	public void registerFlimFlam(String name, IFlimFlamDescription meta) {
 		FLIM_FLAMS.add(meta);
 		FLIM_FLAMS_BY_NAME.put(name, meta);
+		SELECTION.invalidate();
 	}
 
 	@Override
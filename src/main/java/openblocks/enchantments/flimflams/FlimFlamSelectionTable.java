@@ -0,0 +1,141 @@
+package openblocks.enchantments.flimflams;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+
+import openblocks.api.FlimFlamDescriptionSimple;
+import openblocks.api.IFlimFlamDescription;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Cumulative weight tables of allowed flim-flams, one per luck bracket.
+ * Brackets are bounded by ranges of {@link FlimFlamDescriptionSimple}, other implementations are added to every bracket and checked on selection.
+ * Rebuilt lazily after registry or config change.
+ */
+public class FlimFlamSelectionTable {
+
+	public interface Selector {
+		/**
+		 * @return true if effect was applied and selection should stop
+		 */
+		public boolean tryApply(IFlimFlamDescription effect);
+	}
+
+	private static class Bracket {
+		private final IFlimFlamDescription[] effects;
+		private final int[] cumulativeWeights;
+		private final int totalWeight;
+
+		public Bracket(List<IFlimFlamDescription> effects) {
+			this.effects = effects.toArray(new IFlimFlamDescription[effects.size()]);
+			this.cumulativeWeights = new int[this.effects.length];
+
+			int total = 0;
+			for (int i = 0; i < this.effects.length; i++) {
+				total += this.effects[i].weight();
+				cumulativeWeights[i] = total;
+			}
+
+			this.totalWeight = total;
+		}
+
+		private int find(int weight) {
+			int index = Arrays.binarySearch(cumulativeWeights, weight + 1);
+			if (index < 0) index = -index - 1;
+			// skip zero-weight entries sharing same cumulative value
+			while (index > 0 && cumulativeWeights[index - 1] >= weight + 1)
+				index--;
+			return index;
+		}
+
+		public void select(Random random, int luck, Selector selector) {
+			if (totalWeight <= 0) return;
+
+			final int first = find(random.nextInt(totalWeight));
+			if (tryApply(effects[first], luck, selector)) return;
+
+			// slow path: first choice failed, draw from what's left
+			final boolean[] tried = new boolean[effects.length];
+			tried[first] = true;
+			int remainingWeight = totalWeight - effects[first].weight();
+
+			while (remainingWeight > 0) {
+				int selectedWeight = random.nextInt(remainingWeight);
+				for (int i = 0; i < effects.length; i++) {
+					if (tried[i]) continue;
+					final int weight = effects[i].weight();
+					if (selectedWeight < weight) {
+						if (tryApply(effects[i], luck, selector)) return;
+						tried[i] = true;
+						remainingWeight -= weight;
+						break;
+					}
+					selectedWeight -= weight;
+				}
+			}
+		}
+
+		private static boolean tryApply(IFlimFlamDescription effect, int luck, Selector selector) {
+			return effect.canApply(luck) && selector.tryApply(effect);
+		}
+	}
+
+	private int[] bracketStarts;
+
+	private Bracket[] brackets;
+
+	public synchronized void invalidate() {
+		bracketStarts = null;
+		brackets = null;
+	}
+
+	private void build() {
+		final List<IFlimFlamDescription> allowed = Lists.newArrayList();
+		final SortedSet<Integer> starts = Sets.newTreeSet();
+		starts.add(Integer.MIN_VALUE);
+
+		for (IFlimFlamDescription effect : FlimFlamRegistry.instance.getFlimFlams()) {
+			if (effect.weight() <= 0 || FlimFlamRegistry.BLACKLIST.isBlacklisted(effect)) continue;
+			allowed.add(effect);
+
+			if (effect instanceof FlimFlamDescriptionSimple) {
+				final FlimFlamDescriptionSimple simple = (FlimFlamDescriptionSimple)effect;
+				starts.add(simple.lowerLuck());
+				if (simple.upperLuck() != Integer.MAX_VALUE) starts.add(simple.upperLuck() + 1);
+			}
+		}
+
+		final int[] newStarts = new int[starts.size()];
+		final Bracket[] newBrackets = new Bracket[starts.size()];
+
+		int i = 0;
+		for (int start : starts) {
+			final List<IFlimFlamDescription> effects = Lists.newArrayList();
+			for (IFlimFlamDescription effect : allowed)
+				if (!(effect instanceof FlimFlamDescriptionSimple) || effect.canApply(start)) effects.add(effect);
+
+			newStarts[i] = start;
+			newBrackets[i] = new Bracket(effects);
+			i++;
+		}
+
+		bracketStarts = newStarts;
+		brackets = newBrackets;
+	}
+
+	private synchronized Bracket getBracket(int luck) {
+		if (brackets == null) build();
+
+		int index = Arrays.binarySearch(bracketStarts, luck);
+		if (index < 0) index = -index - 2;
+		return brackets[index];
+	}
+
+	public void select(Random random, int luck, Selector selector) {
+		getBracket(luck).select(random, luck, selector);
+	}
+}
@@ -0,0 +1,71 @@
+package openblocks.events;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+import openmods.network.event.EventDirection;
+import openmods.network.event.NetworkEvent;
+import openmods.network.event.NetworkEventMeta;
+import openmods.utils.ByteUtils;
+
+@NetworkEventMeta(direction = EventDirection.S2C)
+public class SlimeChunksEvent extends NetworkEvent {
+
+	// offsets are sent as bytes
+	public static final int MAX_RANGE = 127;
+
+	public int centerX;
+
+	public int centerZ;
+
+	// interleaved x, z offsets from center
+	private byte[] offsets = new byte[32];
+
+	private int count;
+
+	public SlimeChunksEvent() {}
+
+	public SlimeChunksEvent(int centerX, int centerZ) {
+		this.centerX = centerX;
+		this.centerZ = centerZ;
+	}
+
+	public void addChunk(int dx, int dz) {
+		if (2 * count + 2 > offsets.length) offsets = Arrays.copyOf(offsets, Math.max(32, 2 * offsets.length));
+		offsets[2 * count] = (byte)dx;
+		offsets[2 * count + 1] = (byte)dz;
+		count++;
+	}
+
+	public int chunkCount() {
+		return count;
+	}
+
+	public int chunkX(int index) {
+		return centerX + offsets[2 * index];
+	}
+
+	public int chunkZ(int index) {
+		return centerZ + offsets[2 * index + 1];
+	}
+
+	@Override
+	protected void readFromStream(DataInput input) throws IOException {
+		centerX = input.readInt();
+		centerZ = input.readInt();
+		count = ByteUtils.readVLI(input);
+		offsets = new byte[2 * count];
+		input.readFully(offsets);
+	}
+
+	@Override
+	protected void writeToStream(DataOutput output) throws IOException {
+		output.writeInt(centerX);
+		output.writeInt(centerZ);
+		ByteUtils.writeVLI(output, count);
+		output.write(offsets, 0, 2 * count);
+	}
+
+}
@@ -2,6 +2,7 @@ package openblocks.integration;
 
 import java.lang.ref.WeakReference;
 
+import net.minecraft.entity.Entity;
 import net.minecraft.util.ChunkCoordinates;
 import net.minecraft.util.MathHelper;
 import net.minecraft.util.Vec3;
@@ -12,7 +13,6 @@ import openblocks.Config;
 import openblocks.common.entity.EntityMagnet;
 import openblocks.common.entity.EntityMagnet.IEntityBlockFactory;
 import openblocks.common.entity.EntityMagnet.IOwner;
-import openmods.entity.EntityBlock;
 import openmods.fakeplayer.FakePlayerPool;
 import openmods.fakeplayer.FakePlayerPool.PlayerUserReturning;
 import openmods.fakeplayer.OpenModsFakePlayer;
@@ -84,12 +84,12 @@ public class MagnetControlAdapter implements ITickingTurtle, IWorldProvider, IAt
 		}
 
 		@Override
-		public EntityBlock createByPlayer(final IEntityBlockFactory factory) {
+		public Entity createByPlayer(final IEntityBlockFactory factory) {
 			World world = turtle.getWorld();
 
-			if (world instanceof WorldServer) return FakePlayerPool.instance.executeOnPlayer((WorldServer)world, new PlayerUserReturning<EntityBlock>() {
+			if (world instanceof WorldServer) return FakePlayerPool.instance.executeOnPlayer((WorldServer)world, new PlayerUserReturning<Entity>() {
 				@Override
-				public EntityBlock usePlayer(OpenModsFakePlayer fakePlayer) {
+				public Entity usePlayer(OpenModsFakePlayer fakePlayer) {
 					return factory.create(fakePlayer);
 				}
 			});
@@ -12,6 +12,8 @@ public class BlazeBehavior implements ITrophyBehavior {
 	}
 
 	@Override
-	public void executeTickBehavior(TileEntityTrophy tile) {}
+	public int executeScheduledBehavior(TileEntityTrophy tile) {
+		return 0;
+	}
 
 }
@@ -14,6 +14,8 @@ public class CaveSpiderBehavior implements ITrophyBehavior {
 	}
 
 	@Override
-	public void executeTickBehavior(TileEntityTrophy tile) {}
+	public int executeScheduledBehavior(TileEntityTrophy tile) {
+		return 0;
+	}
 
 }
@@ -12,6 +12,8 @@ public class CreeperBehavior implements ITrophyBehavior {
 	}
 
 	@Override
-	public void executeTickBehavior(TileEntityTrophy tile) {}
+	public int executeScheduledBehavior(TileEntityTrophy tile) {
+		return 0;
+	}
 
 }
@@ -20,5 +20,7 @@ public class EndermanBehavior implements ITrophyBehavior {
 	}
 
 	@Override
-	public void executeTickBehavior(TileEntityTrophy tile) {}
+	public int executeScheduledBehavior(TileEntityTrophy tile) {
+		return 0;
+	}
 }
@@ -10,5 +10,10 @@ public interface ITrophyBehavior {
 	 */
 	public int executeActivateBehavior(TileEntityTrophy tile, EntityPlayer player);
 
-	public void executeTickBehavior(TileEntityTrophy tile);
+	/**
+	 * Called on server shortly after trophy is loaded and then after every returned delay
+	 *
+	 * @return ticks until next call, 0 to stop
+	 */
+	public int executeScheduledBehavior(TileEntityTrophy tile);
 }
@@ -33,6 +33,8 @@ public class ItemDropBehavior implements ITrophyBehavior {
 	}
 
 	@Override
-	public void executeTickBehavior(TileEntityTrophy tile) {}
+	public int executeScheduledBehavior(TileEntityTrophy tile) {
+		return 0;
+	}
 
 }